@@ -0,0 +1,19 @@
+package com.likelion.basecode;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// 벤치마크에서 사용할 스프링 컨텍스트 (bench 프로필 : H2 인메모리 DB, 웹 서버 없음)
+public final class BenchmarkContexts {
+
+    private BenchmarkContexts() {
+    }
+
+    // properties : 벤치마크별로 덮어쓸 설정 ("key=value")
+    public static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(BasecodeApplication.class)
+                .profiles("bench")
+                .properties(properties)
+                .run();
+    }
+}
@@ -0,0 +1,150 @@
+package com.likelion.basecode;
+
+import com.likelion.basecode.member.api.dto.response.MemberInfoResponseDto;
+import com.likelion.basecode.member.api.dto.response.MemberListResponseDto;
+import com.likelion.basecode.member.application.MemberService;
+import com.likelion.basecode.member.domain.Member;
+import com.likelion.basecode.post.api.dto.response.PostInfoResponseDto;
+import com.likelion.basecode.post.api.dto.response.PostListResponseDto;
+import com.likelion.basecode.post.application.PostService;
+import com.likelion.basecode.post.domain.Post;
+import com.likelion.basecode.tag.api.dto.response.TagInfoResponseDto;
+import com.likelion.basecode.tag.domain.Tag;
+import com.likelion.basecode.tag.domain.repository.TagRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 목록 조회 : 기존 엔티티 조회 후 DTO 변환 vs 필요한 컬럼만 조회하는 프로젝션
+// 요청당 할당량은 gc 프로파일러의 gc.alloc.rate.norm (B/op) 으로 확인
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReadModelBenchmark {
+
+    private static final int TAGS_PER_POST = 3;
+    private static final int POST_PAGE_SIZE = PostService.MAX_PAGE_SIZE;
+
+    @Param({"10000"})
+    private int rowCount;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnlyTransaction;
+    private EntityManager entityManager;
+    private MemberService memberService;
+    private PostService postService;
+    private TagRepository tagRepository;
+    private Long writerId;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContexts.start();
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        entityManager = context.getBean(EntityManager.class);
+        memberService = context.getBean(MemberService.class);
+        postService = context.getBean(PostService.class);
+        tagRepository = context.getBean(TagRepository.class);
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // 회원 rowCount 명, 태그 rowCount 개, 한 작성자의 게시글 rowCount 개 (게시글마다 태그 3개)
+    private void seed(JdbcTemplate jdbcTemplate) {
+        List<Object[]> members = new ArrayList<>(rowCount);
+        List<Object[]> tags = new ArrayList<>(rowCount);
+        for (int i = 1; i <= rowCount; i++) {
+            members.add(new Object[]{i, "회원" + i, 20 + i % 10, i % 2 == 0 ? "BACKEND" : "FRONTEND"});
+            tags.add(new Object[]{i, "태그" + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO member (member_id, name, age, part) VALUES (?, ?, ?, ?)", members);
+        jdbcTemplate.batchUpdate("INSERT INTO tag (tag_id, name) VALUES (?, ?)", tags);
+
+        writerId = 1L;
+        List<Object[]> posts = new ArrayList<>(rowCount);
+        List<Object[]> postTags = new ArrayList<>(rowCount * TAGS_PER_POST);
+        for (int i = 1; i <= rowCount; i++) {
+            posts.add(new Object[]{i, "제목" + i, "본문 " + i, writerId, "READY"});
+            for (int j = 0; j < TAGS_PER_POST; j++) {
+                postTags.add(new Object[]{(i - 1) * TAGS_PER_POST + j + 1, i, (i + j) % rowCount + 1});
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO post (post_id, title, contents, member_id, tag_status) VALUES (?, ?, ?, ?, ?)", posts);
+        jdbcTemplate.batchUpdate("INSERT INTO post_tag (post_tag_id, post_id, tag_id) VALUES (?, ?, ?)", postTags);
+    }
+
+    // 기존 MemberService.memberFindAll 구현 (Member 엔티티 조회 후 변환)
+    @Benchmark
+    public MemberListResponseDto memberFindAllEntities() {
+        return readOnlyTransaction.execute(status -> MemberListResponseDto.from(
+                entityManager.createQuery("SELECT m FROM Member m", Member.class).getResultList().stream()
+                        .map(MemberInfoResponseDto::from)
+                        .toList()));
+    }
+
+    @Benchmark
+    public MemberListResponseDto memberFindAllProjection() {
+        return memberService.memberFindAll();
+    }
+
+    // 기존 태그 전체 조회 구현 (Tag 엔티티 조회 후 변환, 태그 사전 적재에 사용)
+    @Benchmark
+    public List<TagInfoResponseDto> tagFindAllEntities() {
+        return readOnlyTransaction.execute(status ->
+                entityManager.createQuery("SELECT t FROM Tag t ORDER BY t.id", Tag.class).getResultList().stream()
+                        .map(TagInfoResponseDto::from)
+                        .toList());
+    }
+
+    @Benchmark
+    public List<TagInfoResponseDto> tagFindAllProjection() {
+        return readOnlyTransaction.execute(status -> tagRepository.findAllTagInfos());
+    }
+
+    // 기존 PostService.postFindMember 구현 (게시글/작성자/태그 엔티티 fetch join 후 변환)
+    @Benchmark
+    public List<PostInfoResponseDto> postFindMemberEntities() {
+        return readOnlyTransaction.execute(status -> {
+            List<Long> postIds = entityManager.createQuery(
+                            "SELECT p.postId FROM Post p WHERE p.member.memberId = :memberId ORDER BY p.postId DESC",
+                            Long.class)
+                    .setParameter("memberId", writerId)
+                    .setMaxResults(POST_PAGE_SIZE + 1)
+                    .getResultList();
+            return entityManager.createQuery("SELECT DISTINCT p FROM Post p " +
+                            "JOIN FETCH p.member " +
+                            "LEFT JOIN FETCH p.postTags pt " +
+                            "LEFT JOIN FETCH pt.tag " +
+                            "WHERE p.postId IN :postIds " +
+                            "ORDER BY p.postId DESC", Post.class)
+                    .setParameter("postIds", postIds.subList(0, Math.min(postIds.size(), POST_PAGE_SIZE)))
+                    .getResultList().stream()
+                    .map(PostInfoResponseDto::from)
+                    .toList();
+        });
+    }
+
+    @Benchmark
+    public PostListResponseDto postFindMemberProjection() {
+        return postService.postFindMember(writerId, null, POST_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,163 @@
+package com.likelion.basecode;
+
+import com.likelion.basecode.common.metrics.DbStatementCounter;
+import com.likelion.basecode.member.api.dto.response.MemberInfoResponseDto;
+import com.likelion.basecode.member.application.MemberService;
+import com.likelion.basecode.member.domain.Member;
+import com.likelion.basecode.member.domain.repository.MemberRepository;
+import com.likelion.basecode.tag.api.dto.response.TagListResponseDto;
+import com.likelion.basecode.tag.application.TagService;
+import com.likelion.basecode.tag.domain.repository.TagRepository;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Member/Tag 조회 : 2차 캐시 끔(기존, 매번 DB 조회) vs 켬
+// 요청당 DB 왕복 수(Hibernate가 실행한 SQL 문장 수)는 보조 지표 statements / requests 로 결과(JSON)에 기록
+// tagFindAllWithNewTags : 게시물 저장이 새 태그를 등록(INSERT IGNORE)할 때마다 tag 테이블의 캐시된 쿼리 결과가 무효화되는 경우
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SecondLevelCacheBenchmark {
+
+    // 태그 조회 몇 번마다 새 태그가 등록되는지
+    private static final int NEW_TAG_EVERY = 10;
+
+    @Param({"false", "true"})
+    private boolean secondLevelCache;
+
+    @Param({"1000"})
+    private int rowCount;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private DbStatementCounter statementCounter;
+    private MemberRepository memberRepository;
+    private MemberService memberService;
+    private TagService tagService;
+    private TagRepository tagRepository;
+    private long nextId;
+    private long newTags;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContexts.start(
+                "spring.jpa.properties.hibernate.cache.use_second_level_cache=" + secondLevelCache,
+                "spring.jpa.properties.hibernate.cache.use_query_cache=" + secondLevelCache);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        statementCounter = context.getBean(DbStatementCounter.class);
+        memberRepository = context.getBean(MemberRepository.class);
+        memberService = context.getBean(MemberService.class);
+        tagService = context.getBean(TagService.class);
+        tagRepository = context.getBean(TagRepository.class);
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // 반복(iteration)마다 실행한 SQL 문장 수와 조회 요청 수 (요청당 문장 수 = statements / requests)
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Statements {
+
+        public long statements;
+        public long requests;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            statements = 0;
+            requests = 0;
+        }
+    }
+
+    // 회원 rowCount 명, 태그 rowCount 개
+    private void seed(JdbcTemplate jdbcTemplate) {
+        List<Object[]> members = new ArrayList<>(rowCount);
+        List<Object[]> tags = new ArrayList<>(rowCount);
+        for (int i = 1; i <= rowCount; i++) {
+            members.add(new Object[]{i, "회원" + i, 20 + i % 10, "BACKEND"});
+            tags.add(new Object[]{i, "태그" + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO member (member_id, name, age, part) VALUES (?, ?, ?, ?)", members);
+        jdbcTemplate.batchUpdate("INSERT INTO tag (tag_id, name) VALUES (?, ?)", tags);
+    }
+
+    private long nextId() {
+        nextId = nextId % rowCount + 1;
+        return nextId;
+    }
+
+    // PostService.postSave 의 작성자 조회 (업로드 전 존재 확인 + 저장 트랜잭션 안에서 조회)
+    @Benchmark
+    public Member postSaveMemberLookups(Statements counters) {
+        long memberId = nextId();
+        statementCounter.start();
+        try {
+            memberRepository.findById(memberId).orElseThrow();
+            return transactionTemplate.execute(status -> memberRepository.findById(memberId).orElseThrow());
+        } finally {
+            count(counters);
+        }
+    }
+
+    @Benchmark
+    public MemberInfoResponseDto memberFindOne(Statements counters) {
+        long memberId = nextId();
+        statementCounter.start();
+        try {
+            return memberService.memberFindOne(memberId);
+        } finally {
+            count(counters);
+        }
+    }
+
+    // TagService.getAllTags 의 태그 목록 조회
+    @Benchmark
+    public TagListResponseDto tagFindAll(Statements counters) {
+        statementCounter.start();
+        try {
+            return tagService.getAllTags();
+        } finally {
+            count(counters);
+        }
+    }
+
+    // 조회 NEW_TAG_EVERY 번마다 게시물 저장(PostTaggingService.findOrCreateTags)처럼 새 태그를 INSERT IGNORE
+    // 평균 시간과 요청당 문장 수에는 태그 등록도 포함 (무효화된 뒤의 조회는 다시 DB 조회)
+    @Benchmark
+    public TagListResponseDto tagFindAllWithNewTags(Statements counters) {
+        statementCounter.start();
+        try {
+            if (nextId() % NEW_TAG_EVERY == 0) {
+                List<String> names = List.of("새태그" + ++newTags);
+                transactionTemplate.executeWithoutResult(status -> tagRepository.insertIgnoreAll(names));
+            }
+            return tagService.getAllTags();
+        } finally {
+            count(counters);
+        }
+    }
+
+    private void count(Statements counters) {
+        counters.statements += statementCounter.stop();
+        counters.requests++;
+    }
+}
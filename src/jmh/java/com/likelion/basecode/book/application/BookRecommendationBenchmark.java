@@ -0,0 +1,131 @@
+package com.likelion.basecode.book.application;
+
+import com.likelion.basecode.BenchmarkContexts;
+import com.likelion.basecode.book.api.dto.response.BookListResponseDto;
+import com.likelion.basecode.book.api.dto.response.BookResponseDto;
+import com.likelion.basecode.book.domain.repository.BookRepository;
+import com.likelion.basecode.post.domain.repository.PostRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 게시물 추천 도서 조회 : 요청마다 계산(게시물/태그 조회 + 검색 색인 조회) vs 미리 계산된 결과 PK 조회
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookRecommendationBenchmark {
+
+    private static final String[] WORDS = {
+            "자바", "스프링", "데이터베이스", "알고리즘", "운영체제", "네트워크", "인공지능", "머신러닝",
+            "역사", "철학", "경제", "심리학", "소설", "여행", "요리", "건강", "교육", "과학", "예술", "음악"
+    };
+    private static final int PAGE_SIZE = 100;
+    private static final int TAGS_PER_POST = 3;
+
+    @Param({"100000"})
+    private int bookCount;
+
+    @Param({"1000"})
+    private int postCount;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnlyTransaction;
+    private PostRepository postRepository;
+    private BookRecommendationStore bookRecommendationStore;
+    private BookService bookService;
+    private long nextPostId;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContexts.start();
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        postRepository = context.getBean(PostRepository.class);
+        bookRecommendationStore = context.getBean(BookRecommendationStore.class);
+        bookService = context.getBean(BookService.class);
+
+        seedBooks(context.getBean(BookRepository.class));
+        context.getBean(BookCatalogStore.class).rebuildSearchIndexIfStale();
+        seedPosts(context.getBean(JdbcTemplate.class));
+        bookRecommendationStore.recomputeAll();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // 도서 bookCount 권 (WORDS 조합 제목)
+    private void seedBooks(BookRepository bookRepository) {
+        Random random = new Random(42);
+        for (int pageNo = 1; pageNo <= bookCount / PAGE_SIZE; pageNo++) {
+            List<BookResponseDto> books = new ArrayList<>(PAGE_SIZE);
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                books.add(new BookResponseDto(
+                        WORDS[random.nextInt(WORDS.length)] + "의 이해",
+                        WORDS[random.nextInt(WORDS.length)] + "와 " + WORDS[random.nextInt(WORDS.length)] + " 입문",
+                        "저자", "http://book.test/" + pageNo + "/" + i));
+            }
+            bookRepository.replacePage(pageNo, books);
+        }
+    }
+
+    // 게시글 postCount 개 (게시글마다 WORDS 중 태그 3개)
+    private void seedPosts(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("INSERT INTO member (member_id, name, age, part) VALUES (1, '회원', 20, 'BACKEND')");
+        List<Object[]> tags = new ArrayList<>(WORDS.length);
+        for (int i = 0; i < WORDS.length; i++) {
+            tags.add(new Object[]{i + 1, WORDS[i]});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tag (tag_id, name) VALUES (?, ?)", tags);
+
+        List<Object[]> posts = new ArrayList<>(postCount);
+        List<Object[]> postTags = new ArrayList<>(postCount * TAGS_PER_POST);
+        for (int i = 1; i <= postCount; i++) {
+            posts.add(new Object[]{i, "제목" + i, "본문 " + i});
+            for (int j = 0; j < TAGS_PER_POST; j++) {
+                postTags.add(new Object[]{(i - 1) * TAGS_PER_POST + j + 1, i, (i + j) % WORDS.length + 1});
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO post (post_id, title, contents, member_id, tag_status) VALUES (?, ?, ?, 1, 'READY')", posts);
+        jdbcTemplate.batchUpdate("INSERT INTO post_tag (post_tag_id, post_id, tag_id) VALUES (?, ?, ?)", postTags);
+    }
+
+    private long nextPostId() {
+        nextPostId = nextPostId % postCount + 1;
+        return nextPostId;
+    }
+
+    // 기존 BookService.recommendBooksByPostId 구현 (게시글/태그 fetch join 조회 후 검색 색인 조회)
+    @Benchmark
+    public List<BookResponseDto> computeOnRequest() {
+        long postId = nextPostId();
+        List<String> tags = readOnlyTransaction.execute(status -> postRepository.findByIdWithTags(postId)
+                .orElseThrow()
+                .getPostTags().stream()
+                .map(postTag -> postTag.getTag().getName())
+                .toList());
+        return bookRecommendationStore.compute(tags);
+    }
+
+    // 미리 계산된 추천 도서 PK 조회
+    @Benchmark
+    public BookListResponseDto precomputed() {
+        return bookService.recommendBooksByPostId(nextPostId());
+    }
+}
@@ -0,0 +1,98 @@
+package com.likelion.basecode.book.application;
+
+import com.likelion.basecode.book.api.dto.response.BookResponseDto;
+import com.likelion.basecode.book.domain.repository.PagedBook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.util.FileSystemUtils;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 태그 기반 도서 추천 : 기존 stream 전체 스캔 vs 디스크에 저장된 BookSearchIndex(Lucene + nori) 관련도 검색
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookSearchIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "자바", "스프링", "데이터베이스", "알고리즘", "운영체제", "네트워크", "인공지능", "머신러닝",
+            "역사", "철학", "경제", "심리학", "소설", "여행", "요리", "건강", "교육", "과학", "예술", "음악"
+    };
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"1000", "10000", "100000", "200000"})
+    private int bookCount;
+
+    // common : 카탈로그에 자주 등장하는 태그 포함 (기존 구현은 limit(3)으로 일찍 끝남)
+    // rare   : 거의 등장하지 않는 태그만 포함 (기존 구현은 카탈로그 전체를 스캔)
+    @Param({"common", "rare"})
+    private String tagSet;
+
+    private List<BookResponseDto> books;
+    private Path indexDir;
+    private BookSearchIndex index;
+    private List<String> tags;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        books = new ArrayList<>(bookCount);
+        List<PagedBook> pagedBooks = new ArrayList<>(bookCount);
+        for (int i = 0; i < bookCount; i++) {
+            // 마지막 도서에만 희귀 태그가 등장
+            BookResponseDto book = i == bookCount - 1
+                    ? new BookResponseDto("클라우드 네이티브", "클라우드 네이티브 입문", "저자", "http://book.test/last")
+                    : new BookResponseDto(
+                            WORDS[random.nextInt(WORDS.length)] + "의 이해 " + i,
+                            WORDS[random.nextInt(WORDS.length)] + "와 " + WORDS[random.nextInt(WORDS.length)] + " 입문",
+                            "저자" + i, "http://book.test/" + i);
+            books.add(book);
+            pagedBooks.add(new PagedBook(i / PAGE_SIZE + 1, i % PAGE_SIZE,
+                    book.title(), book.alternativeTitle(), book.author(), book.url()));
+        }
+
+        indexDir = Files.createTempDirectory("book-index-bench");
+        index = new BookSearchIndex(indexDir.toString());
+        index.rebuild(pagedBooks);
+        tags = tagSet.equals("common")
+                ? List.of("스프링", "머신러닝", "클라우드")
+                : List.of("클라우드", "쿠버네티스", "블록체인");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        index.close();
+        FileSystemUtils.deleteRecursively(indexDir);
+    }
+
+    // 기존 BookService.filterBooksByAlternativeTitle 구현 (도서 수 × 태그 수 전체 스캔, 관련도 순서 없음)
+    @Benchmark
+    public List<BookResponseDto> streamFilter() {
+        return books.stream()
+                .filter(book -> tags.stream().anyMatch(tag -> {
+                    String altTitle = Optional.ofNullable(book.alternativeTitle()).orElse("");
+                    return altTitle.contains(tag);
+                }))
+                .limit(3)
+                .toList();
+    }
+
+    // 형태소 분석한 태그로 색인 조회 + BM25 관련도 상위 3개
+    @Benchmark
+    public List<BookResponseDto> searchIndex() {
+        return index.search(tags, 3);
+    }
+}
@@ -0,0 +1,71 @@
+package com.likelion.basecode.common.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.basecode.book.api.dto.response.BookResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// 도서 API 응답 파싱 : 기존 Map 트리 변환 후 캐스팅 vs 토큰 단위 스트리밍 파싱
+// 응답 크기(item 수)별 파싱 시간과 할당량(gc 프로파일러의 gc.alloc.rate.norm, B/op) 비교
+// 페이로드는 실제 응답과 같은 구조로 생성 (사용하지 않는 필드 포함)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookResponseParserBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int itemCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        String items = IntStream.range(0, itemCount)
+                .mapToObj(i -> """
+                        {"title": "Book title %d", "alternativeTitle": "자바 입문 %d", "author": "저자 %d",
+                         "url": "http://book.test/detail/%d", "publisher": "출판사 %d", "issuedDate": "2020-01-01",
+                         "subjectKeyword": "프로그래밍, 자바, 객체지향", "description": "도서 %d 에 대한 설명입니다.",
+                         "isbn": "97889000%05d", "price": %d}""".formatted(i, i, i, i, i % 50, i, i, 10_000 + i))
+                .collect(Collectors.joining(","));
+        payload = ("{\"response\": {\"header\": {\"resultCode\": \"00\", \"resultMsg\": \"NORMAL SERVICE\"}, " +
+                "\"body\": {\"numOfRows\": " + itemCount + ", \"pageNo\": 1, \"totalCount\": " + itemCount + ", " +
+                "\"items\": {\"item\": [" + items + "]}}}}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 기존 BookSearchClient 구현 (응답 전체를 Map 트리로 변환한 뒤 필드 복사)
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<BookResponseDto> mapTree() throws IOException {
+        Map<String, Object> root = objectMapper.readValue(payload, Map.class);
+        Map<String, Object> response = (Map<String, Object>) root.get("response");
+        Map<String, Object> body = (Map<String, Object>) response.get("body");
+        Map<String, Object> items = (Map<String, Object>) body.get("items");
+        return ((List<Map<String, Object>>) items.get("item")).stream()
+                .map(item -> new BookResponseDto(
+                        (String) item.getOrDefault("title", ""),
+                        (String) item.getOrDefault("alternativeTitle", ""),
+                        (String) item.getOrDefault("author", ""),
+                        (String) item.getOrDefault("url", "")))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<BookResponseDto> streaming() throws IOException {
+        return BookResponseParser.parse(new ByteArrayInputStream(payload)).books();
+    }
+}
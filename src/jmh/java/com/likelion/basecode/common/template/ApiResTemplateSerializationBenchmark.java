@@ -0,0 +1,63 @@
+package com.likelion.basecode.common.template;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.basecode.book.api.dto.response.BookListResponseDto;
+import com.likelion.basecode.book.api.dto.response.BookResponseDto;
+import com.likelion.basecode.common.error.SuccessCode;
+import com.likelion.basecode.post.api.dto.response.PostInfoResponseDto;
+import com.likelion.basecode.post.api.dto.response.PostListResponseDto;
+import com.likelion.basecode.post.domain.TagStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// 응답 JSON 직렬화 : ApiResTemplate으로 감싼 도서 목록/게시글 목록 응답을 byte[]로 변환
+// 스프링 MVC 메시지 컨버터와 같은 설정의 ObjectMapper 사용, 응답 항목 수별 직렬화 시간과 할당량 비교
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResTemplateSerializationBenchmark {
+
+    @Param({"3", "100", "1000"})
+    private int itemCount;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private ApiResTemplate<BookListResponseDto> bookResponse;
+    private ApiResTemplate<PostListResponseDto> postResponse;
+
+    @Setup
+    public void setUp() {
+        List<BookResponseDto> books = IntStream.range(0, itemCount)
+                .mapToObj(i -> new BookResponseDto("Book title " + i, "자바 입문 " + i, "저자 " + i,
+                        "http://book.test/detail/" + i))
+                .toList();
+        bookResponse = ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, new BookListResponseDto(books));
+
+        List<PostInfoResponseDto> posts = IntStream.range(0, itemCount)
+                .mapToObj(i -> new PostInfoResponseDto((long) i, "제목 " + i, "본문 " + i, "홍길동",
+                        List.of("자바", "스프링", "JPA"), TagStatus.READY, null))
+                .toList();
+        postResponse = ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS,
+                PostListResponseDto.from(posts, (long) itemCount));
+    }
+
+    @Benchmark
+    public byte[] bookList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(bookResponse);
+    }
+
+    @Benchmark
+    public byte[] postList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(postResponse);
+    }
+}
@@ -0,0 +1,58 @@
+package com.likelion.basecode.post.api.dto.response;
+
+import com.likelion.basecode.member.domain.Member;
+import com.likelion.basecode.member.domain.Part;
+import com.likelion.basecode.post.domain.Post;
+import com.likelion.basecode.post.domain.TagStatus;
+import com.likelion.basecode.post.domain.repository.PostSummary;
+import com.likelion.basecode.posttag.domain.PostTag;
+import com.likelion.basecode.tag.domain.Tag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// 게시글 응답 DTO 변환 : 엔티티(PostTag -> Tag 탐색) vs 프로젝션 + 태그 이름 목록
+// 태그 수에 비례하는 변환 시간과 할당량(gc.alloc.rate.norm, B/op) 비교 (DB 조회 없이 메모리의 객체만 사용)
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostInfoResponseDtoBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int tagCount;
+
+    private Post post;
+    private PostSummary summary;
+    private List<String> tagNames;
+
+    @Setup
+    public void setUp() {
+        Member member = Member.builder().name("홍길동").age(20).part(Part.BACKEND).build();
+        post = Post.builder().title("제목").contents("본문").member(member).imageUrl("http://image.test/a.png").build();
+        tagNames = IntStream.range(0, tagCount)
+                .mapToObj(i -> "태그" + i)
+                .toList();
+        tagNames.forEach(name -> post.getPostTags().add(new PostTag(post, new Tag(name))));
+        summary = new PostSummary(1L, "제목", "본문", "홍길동", TagStatus.READY, "http://image.test/a.png");
+    }
+
+    // 게시글 저장/수정 응답 (엔티티의 PostTag 컬렉션을 순회하며 태그 이름 복사)
+    @Benchmark
+    public PostInfoResponseDto fromEntity() {
+        return PostInfoResponseDto.from(post);
+    }
+
+    // 게시글 목록 응답 (조회한 태그 이름 목록을 그대로 사용)
+    @Benchmark
+    public PostInfoResponseDto ofProjection() {
+        return PostInfoResponseDto.of(summary, tagNames);
+    }
+}
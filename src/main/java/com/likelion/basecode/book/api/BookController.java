@@ -1,6 +1,7 @@
 package com.likelion.basecode.book.api;
 
 import com.likelion.basecode.book.api.dto.response.BookListResponseDto;
+import com.likelion.basecode.book.api.dto.response.BookPageResponseDto;
 import com.likelion.basecode.book.application.BookService;
 import com.likelion.basecode.common.error.SuccessCode;
 import com.likelion.basecode.common.template.ApiResTemplate;
@@ -17,10 +18,12 @@ public class BookController {
 
     private final BookService bookService;
 
+    // 로컬 도서 저장소의 전체 도서를 API 순서대로 페이지 단위로 조회 (cursor : 이전 페이지 응답의 nextCursor)
     @GetMapping("/all")
-    public ApiResTemplate<BookListResponseDto> getAllBooks() {
-        BookListResponseDto bookListResponseDto = bookService.fetchAllRecommendedBooks();
-        return ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, bookListResponseDto);
+    public ApiResTemplate<BookPageResponseDto> getAllBooks(@RequestParam(value = "cursor", required = false) String cursor,
+                                                           @RequestParam(value = "size", defaultValue = "20") int size) {
+        BookPageResponseDto bookPageResponseDto = bookService.fetchAllRecommendedBooks(cursor, size);
+        return ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, bookPageResponseDto);
     }
 
     @GetMapping("/recommendations")
@@ -0,0 +1,19 @@
+package com.likelion.basecode.book.api.dto.response;
+
+import lombok.Builder;
+import java.util.List;
+
+@Builder
+public record BookPageResponseDto(
+        List<BookResponseDto> books,
+        String nextCursor,  // 다음 페이지 조회 시 cursor로 전달할 값 (마지막 페이지라면 null)
+        boolean hasNext
+) {
+    public static BookPageResponseDto from(List<BookResponseDto> books, String nextCursor) {
+        return BookPageResponseDto.builder()
+                .books(books)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+}
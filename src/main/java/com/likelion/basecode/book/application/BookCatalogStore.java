@@ -0,0 +1,166 @@
+package com.likelion.basecode.book.application;
+
+import com.likelion.basecode.book.api.dto.response.BookResponseDto;
+import com.likelion.basecode.book.domain.BookCatalogPage;
+import com.likelion.basecode.book.domain.BookCatalogSyncState;
+import com.likelion.basecode.book.domain.repository.BookCatalogPageRepository;
+import com.likelion.basecode.book.domain.repository.BookCatalogSyncStateRepository;
+import com.likelion.basecode.book.domain.repository.BookRepository;
+import com.likelion.basecode.common.client.BookPage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 외부 도서 API에서 동기화한 도서와 페이지별 동기화 상태 저장 (전체 도서 목록과 검색 색인 재생성이 조회하는 로컬 도서 저장소)
+// 도서 검색 색인(BookSearchIndex)은 DB보다 먼저 반영하므로, DB 반영이 실패해도 다음 동기화에서 해시가 달라 다시 교체됨
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class BookCatalogStore {
+
+    private final BookRepository bookRepository;
+    private final BookCatalogPageRepository bookCatalogPageRepository;
+    private final BookCatalogSyncStateRepository bookCatalogSyncStateRepository;
+    private final BookSearchIndex bookSearchIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    // 동기화 실행 권한(lease) 획득 : 다른 인스턴스가 유효한 lease를 갖고 있지 않을 때만 owner가 until까지 보유
+    // 상태 행이 없다면 먼저 만들고 (여러 인스턴스가 동시에 만들려는 경우 먼저 저장된 행 사용), 행 잠금은 UPDATE 한 번 동안만 유지
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean tryAcquireLease(String owner, Instant now, Instant until) {
+        if (!bookCatalogSyncStateRepository.existsById(BookCatalogSyncState.SINGLETON_ID)) {
+            try {
+                BookCatalogSyncState state = new BookCatalogSyncState(BookCatalogSyncState.SINGLETON_ID);
+                state.start(now);
+                bookCatalogSyncStateRepository.save(state);
+            } catch (DataIntegrityViolationException e) {
+                // 다른 인스턴스가 먼저 만든 행 사용
+            }
+        }
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> bookCatalogSyncStateRepository
+                .acquireLease(BookCatalogSyncState.SINGLETON_ID, owner, now, until) == 1));
+    }
+
+    // owner가 가진 lease 반납 (다른 인스턴스가 만료된 lease를 이미 이어받았다면 아무것도 하지 않음)
+    public void releaseLease(String owner) {
+        bookCatalogSyncStateRepository.releaseLease(BookCatalogSyncState.SINGLETON_ID, owner);
+    }
+
+    // 완료되지 않은 동기화가 있다면 그 상태를 그대로 반환(이어서 진행), 없다면 now 기준으로 새 동기화 시작
+    public BookCatalogSyncState startOrResume(Instant now) {
+        BookCatalogSyncState state = bookCatalogSyncStateRepository.findById(BookCatalogSyncState.SINGLETON_ID)
+                .orElseGet(() -> new BookCatalogSyncState(BookCatalogSyncState.SINGLETON_ID));
+        if (!state.isInProgress()) {
+            state.start(now);
+        }
+        return bookCatalogSyncStateRepository.save(state);
+    }
+
+    // 페이지 번호별 동기화 상태 (조회 전용)
+    @Transactional(readOnly = true)
+    public Map<Integer, BookCatalogPage> findPages() {
+        return bookCatalogPageRepository.findAll().stream()
+                .collect(Collectors.toMap(BookCatalogPage::getPageNo, Function.identity()));
+    }
+
+    // 조회한 페이지를 반영하고, 도서 목록이 바뀌었는지 반환
+    // 변경되지 않은 페이지(304 응답 또는 같은 해시)는 도서 행을 다시 쓰지 않고 확인 시각만 갱신
+    public boolean savePage(BookPage page, Instant syncedAt) {
+        BookCatalogPage catalogPage = bookCatalogPageRepository.findById(page.pageNo())
+                .orElseGet(() -> new BookCatalogPage(page.pageNo()));
+
+        String contentHash = page.notModified() ? catalogPage.getContentHash() : contentHash(page.books());
+        if (contentHash != null && contentHash.equals(catalogPage.getContentHash())) {
+            catalogPage.markChecked(page.etag(), page.lastModified(), syncedAt);
+            bookCatalogPageRepository.save(catalogPage);
+            return false;
+        }
+
+        bookSearchIndex.replacePage(page.pageNo(), page.books());
+        bookRepository.replacePage(page.pageNo(), page.books());
+        catalogPage.update(contentHash, page.books().size(), page.etag(), page.lastModified(), syncedAt);
+        bookCatalogPageRepository.save(catalogPage);
+        return true;
+    }
+
+    // 마지막 페이지(lastPageNo) 이후의 도서와 페이지 상태 삭제 (전체 도서 수가 줄어든 경우), 삭제한 페이지 수 반환
+    public int deletePagesAfter(int lastPageNo) {
+        bookSearchIndex.deletePagesAfter(lastPageNo);
+        bookRepository.deleteByPageNoGreaterThan(lastPageNo);
+        return bookCatalogPageRepository.deleteByPageNoGreaterThan(lastPageNo);
+    }
+
+    // 검색 색인의 도서 수가 로컬 저장소와 다르거나(색인 파일 유실, 색인 반영 후 DB 실패 등), 이전 동기화가 색인을 커밋하기 전에 종료되었거나,
+    // 색인에 반영한 카탈로그 버전이 저장소와 다르다면(다른 인스턴스가 동기화한 변경) 저장소 기준으로 다시 생성
+    // 다시 생성했다면 true 반환 (카탈로그 버전과 도서는 한 트랜잭션에서 읽어 같은 시점의 저장소를 반영)
+    @Transactional(readOnly = true)
+    public boolean rebuildSearchIndexIfStale() {
+        String catalogVersion = catalogVersion();
+        if (bookSearchIndex.isCurrent(catalogVersion) && bookSearchIndex.size() == bookRepository.count()) {
+            bookSearchIndex.markVerified();
+            return false;
+        }
+        bookSearchIndex.rebuild(bookRepository.findAllPagedBooks(), catalogVersion);
+        return true;
+    }
+
+    // 동기화 실행 동안의 검색 색인 페이지 교체는 커밋(fsync)하지 않고 commitSearchIndex에서 한 번에 커밋
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void beginSearchIndexUpdates() {
+        bookSearchIndex.beginUpdates();
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void commitSearchIndex() {
+        bookSearchIndex.commitUpdates(catalogVersion());
+    }
+
+    // 로컬 저장소의 카탈로그 버전 : 페이지 번호와 내용 해시 전체의 SHA-256 해시 (페이지 내용이 바뀌거나 페이지가 추가/삭제되면 달라짐)
+    String catalogVersion() {
+        MessageDigest digest = sha256();
+        for (BookCatalogPage page : bookCatalogPageRepository.findAll(Sort.by("pageNo"))) {
+            digest.update((page.getPageNo() + ":" + page.getContentHash()).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // 모든 페이지를 확인한 동기화를 완료 처리
+    public void complete(Instant now, int totalCount) {
+        bookCatalogSyncStateRepository.findById(BookCatalogSyncState.SINGLETON_ID)
+                .ifPresent(state -> state.complete(now, totalCount));
+    }
+
+    // 페이지 도서 목록의 SHA-256 해시 (필드 사이는 구분 문자로 나눠 경계가 섞이지 않도록 함)
+    static String contentHash(List<BookResponseDto> books) {
+        MessageDigest digest = sha256();
+        for (BookResponseDto book : books) {
+            for (String field : new String[]{book.title(), book.alternativeTitle(), book.author(), book.url()}) {
+                digest.update(field.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
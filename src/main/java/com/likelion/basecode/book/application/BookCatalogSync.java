@@ -0,0 +1,278 @@
+package com.likelion.basecode.book.application;
+
+import com.likelion.basecode.book.domain.BookCatalogPage;
+import com.likelion.basecode.book.domain.BookCatalogSyncState;
+import com.likelion.basecode.common.client.BookPage;
+import com.likelion.basecode.common.client.BookSearchClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+
+// 외부 도서 API 전체 페이지를 로컬 도서 저장소(BookCatalogStore)로 동기화
+// - 첫 페이지의 전체 도서 수로 페이지 수를 정하고, 나머지 페이지는 parallelism 개씩 동시에 조회 (초당 호출 수는 bookApiRateLimiter로 제한)
+// - 이전 조회의 ETag/Last-Modified로 조건부 요청을 보내고, 본문을 받은 경우에도 해시가 같으면 도서 행을 다시 쓰지 않음
+// - 일부 페이지가 실패하면 동기화를 완료 처리하지 않고, 다음 동기화에서 이번에 확인하지 못한 페이지만 이어서 조회
+// - 바뀐 페이지는 도서 검색 색인(BookSearchIndex)에도 페이지 단위로 반영하고, 색인 커밋(fsync)은 동기화 실행마다 한 번
+// - 여러 인스턴스가 실행 중이어도 DB의 동기화 상태 행에서 실행 권한(lease)을 얻은 인스턴스 하나만 동기화
+//   (lease는 leaseMs 뒤 만료되므로 동기화 중 인스턴스가 종료되어도 다른 인스턴스가 다음 주기에 이어서 진행)
+// - 검색 색인은 인스턴스마다 따로 있으므로 색인이 로컬 저장소와 맞는지 확인하고 다시 생성하는 작업은 lease와 관계없이 모든 인스턴스에서 실행
+//   (동기화 시작 시와 book.search.index-check-ms 주기, lease는 외부 API 조회와 저장에만 사용)
+@Slf4j
+@Component
+public class BookCatalogSync {
+
+    private final BookSearchClient bookSearchClient;
+    private final BookCatalogStore bookCatalogStore;
+    private final BookRecommendationStore bookRecommendationStore;
+    private final int pageSize;
+    private final int parallelism;
+    private final int maxPages;
+    private final Duration leaseDuration;
+
+    // 이 인스턴스의 동기화 lease 소유자 id
+    private final String leaseOwner = UUID.randomUUID().toString();
+    // 같은 인스턴스 안에서 동기화가 동시에 여러 번 실행되지 않도록 보호
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    private final Counter changedPageCounter;
+    private final Counter unchangedPageCounter;
+    private final Counter failedPageCounter;
+    private final Timer syncTimer;
+
+    public BookCatalogSync(
+            BookSearchClient bookSearchClient,
+            BookCatalogStore bookCatalogStore,
+            BookRecommendationStore bookRecommendationStore,
+            MeterRegistry meterRegistry,
+            @Value("${book.sync.page-size:100}") int pageSize,
+            @Value("${book.sync.parallelism:4}") int parallelism,
+            @Value("${book.sync.max-pages:1000}") int maxPages,
+            @Value("${book.sync.lease-ms:1800000}") long leaseMs
+    ) {
+        this.bookSearchClient = bookSearchClient;
+        this.bookCatalogStore = bookCatalogStore;
+        this.bookRecommendationStore = bookRecommendationStore;
+        this.pageSize = pageSize;
+        this.parallelism = parallelism;
+        this.maxPages = maxPages;
+        this.leaseDuration = Duration.ofMillis(leaseMs);
+
+        this.changedPageCounter = Counter.builder("book.sync.pages")
+                .tag("result", "changed")
+                .register(meterRegistry);
+        this.unchangedPageCounter = Counter.builder("book.sync.pages")
+                .tag("result", "unchanged")
+                .register(meterRegistry);
+        this.failedPageCounter = Counter.builder("book.sync.pages")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.syncTimer = Timer.builder("book.sync")
+                .description("외부 도서 API 전체 페이지 동기화에 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    // 주기적인 전체 동기화 (애플리케이션 기동 직후 최초 동기화 포함)
+    @Scheduled(initialDelay = 0, fixedDelayString = "${book.sync.interval-ms:21600000}")
+    public void sync() {
+        // 이미 다른 스레드가 동기화 중이라면 중복 실행하지 않음
+        if (!syncLock.tryLock()) {
+            return;
+        }
+        boolean leased = false;
+        try {
+            // 검색 색인이 로컬 저장소와 어긋나 있으면 먼저 저장소 기준으로 다시 생성 (lease와 관계없이 모든 인스턴스)
+            // 다시 생성하지 못했다면 어긋난 색인에 페이지 교체를 반영하지 않도록 동기화도 하지 않음
+            rebuildSearchIndexIfStale();
+
+            // 다른 인스턴스가 동기화 중이라면 이번 주기는 건너뜀
+            Instant now = Instant.now();
+            leased = bookCatalogStore.tryAcquireLease(leaseOwner, now, now.plus(leaseDuration));
+            if (!leased) {
+                log.info("다른 인스턴스가 도서 카탈로그를 동기화 중이므로 건너뜁니다.");
+                return;
+            }
+            SyncResult result = syncTimer.record(this::syncPages);
+            log.info("도서 카탈로그 동기화 : {}", result);
+            // 바뀐 도서가 있으면 게시물별 추천 도서를 다시 계산
+            if (result.hasChanges()) {
+                int recomputed = bookRecommendationStore.recomputeAll();
+                log.info("게시물 추천 도서 재계산 : {}건", recomputed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("도서 카탈로그 동기화 실패 (다음 동기화에서 이어서 진행): {}", e.getMessage());
+        } finally {
+            if (leased) {
+                releaseLeaseQuietly();
+            }
+            syncLock.unlock();
+        }
+    }
+
+    // 동기화 주기 사이에도 다른 인스턴스가 동기화한 변경을 검색 색인에 반영
+    // 이 인스턴스에서 동기화 중이라면 동기화가 끝난 뒤 커밋하는 버전과 비교해야 하므로 건너뜀
+    @Scheduled(fixedDelayString = "${book.search.index-check-ms:60000}",
+            initialDelayString = "${book.search.index-check-ms:60000}")
+    public void refreshSearchIndex() {
+        if (!syncLock.tryLock()) {
+            return;
+        }
+        try {
+            rebuildSearchIndexIfStale();
+        } catch (RuntimeException e) {
+            log.warn("도서 검색 색인 확인 실패 (다음 주기에 다시 확인): {}", e.getMessage());
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void rebuildSearchIndexIfStale() {
+        if (bookCatalogStore.rebuildSearchIndexIfStale()) {
+            log.info("도서 검색 색인을 로컬 도서 저장소 기준으로 다시 생성했습니다.");
+        }
+    }
+
+    // lease 반납에 실패해도 만료 시각이 지나면 다른 인스턴스가 이어받음
+    private void releaseLeaseQuietly() {
+        try {
+            bookCatalogStore.releaseLease(leaseOwner);
+        } catch (RuntimeException e) {
+            log.warn("도서 카탈로그 동기화 lease 반납 실패: {}", e.getMessage());
+        }
+    }
+
+    SyncResult syncPages() {
+        bookCatalogStore.beginSearchIndexUpdates();
+        try {
+            return syncPagesUncommitted();
+        } finally {
+            // 일부 페이지가 실패해도 반영된 페이지까지는 커밋
+            bookCatalogStore.commitSearchIndex();
+        }
+    }
+
+    private SyncResult syncPagesUncommitted() {
+        BookCatalogSyncState state = bookCatalogStore.startOrResume(Instant.now());
+        Instant runStartedAt = state.getStartedAt();
+        Map<Integer, BookCatalogPage> pages = bookCatalogStore.findPages();
+
+        // 1. 첫 페이지로 전체 도서 수 확인 (실패하면 페이지 수를 알 수 없으므로 동기화 중단)
+        BookPage firstPage = fetch(1, pages.get(1));
+        List<PageResult> results = new ArrayList<>();
+        results.add(save(firstPage));
+        int totalCount = firstPage.totalCount() != BookPage.UNKNOWN_TOTAL_COUNT || state.getTotalCount() == null
+                ? firstPage.totalCount()
+                : state.getTotalCount();
+        int pageCount = pageCount(totalCount, pages);
+
+        // 2. 나머지 페이지 중 이번 동기화에서 아직 확인하지 않은 페이지만 동시에 조회
+        List<Integer> remainingPageNos = IntStream.rangeClosed(2, pageCount)
+                .filter(pageNo -> pages.get(pageNo) == null || !pages.get(pageNo).isSyncedSince(runStartedAt))
+                .boxed()
+                .toList();
+        results.addAll(syncConcurrently(remainingPageNos, pages));
+
+        // 3. 모든 페이지를 확인했다면 사라진 페이지를 정리하고 동기화 완료 처리
+        int failedPages = Collections.frequency(results, PageResult.FAILED);
+        int deletedPages = 0;
+        if (failedPages == 0) {
+            if (totalCount != BookPage.UNKNOWN_TOTAL_COUNT) {
+                deletedPages = bookCatalogStore.deletePagesAfter(pageCount);
+            }
+            bookCatalogStore.complete(Instant.now(), totalCount);
+        }
+
+        return new SyncResult(
+                pageCount,
+                Collections.frequency(results, PageResult.CHANGED),
+                Collections.frequency(results, PageResult.UNCHANGED),
+                failedPages,
+                deletedPages);
+    }
+
+    private List<PageResult> syncConcurrently(List<Integer> pageNos, Map<Integer, BookCatalogPage> pages) {
+        if (pageNos.isEmpty()) {
+            return List.of();
+        }
+
+        List<Callable<PageResult>> tasks = pageNos.stream()
+                .<Callable<PageResult>>map(pageNo -> () -> syncPageQuietly(pageNo, pages.get(pageNo)))
+                .toList();
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism,
+                Thread.ofPlatform().name("book-sync-", 1).daemon().factory())) {
+            List<PageResult> results = new ArrayList<>(tasks.size());
+            for (Future<PageResult> future : executor.invokeAll(tasks)) {
+                results.add(future.resultNow());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("도서 카탈로그 동기화가 중단되었습니다.", e);
+        }
+    }
+
+    // 한 페이지 동기화 (실패해도 다른 페이지는 계속 진행)
+    private PageResult syncPageQuietly(int pageNo, BookCatalogPage previous) {
+        try {
+            return save(fetch(pageNo, previous));
+        } catch (RuntimeException e) {
+            failedPageCounter.increment();
+            log.warn("도서 카탈로그 {} 페이지 동기화 실패: {}", pageNo, e.getMessage());
+            return PageResult.FAILED;
+        }
+    }
+
+    private BookPage fetch(int pageNo, BookCatalogPage previous) {
+        return previous == null
+                ? bookSearchClient.fetchPage(pageNo, pageSize, null, null)
+                : bookSearchClient.fetchPage(pageNo, pageSize, previous.getEtag(), previous.getLastModified());
+    }
+
+    private PageResult save(BookPage page) {
+        if (bookCatalogStore.savePage(page, Instant.now())) {
+            changedPageCounter.increment();
+            return PageResult.CHANGED;
+        }
+        unchangedPageCounter.increment();
+        return PageResult.UNCHANGED;
+    }
+
+    // 전체 도서 수로 페이지 수 계산 (응답에 전체 도서 수가 없다면 지금까지 저장된 페이지 수 유지)
+    private int pageCount(int totalCount, Map<Integer, BookCatalogPage> pages) {
+        int pageCount = totalCount == BookPage.UNKNOWN_TOTAL_COUNT
+                ? pages.keySet().stream().mapToInt(Integer::intValue).max().orElse(1)
+                : (totalCount + pageSize - 1) / pageSize;
+        return Math.clamp(pageCount, 1, maxPages);
+    }
+
+    private enum PageResult {
+        CHANGED, UNCHANGED, FAILED
+    }
+
+    record SyncResult(int pageCount, int changedPages, int unchangedPages, int failedPages, int deletedPages) {
+
+        boolean completed() {
+            return failedPages == 0;
+        }
+
+        boolean hasChanges() {
+            return changedPages > 0 || deletedPages > 0;
+        }
+    }
+}
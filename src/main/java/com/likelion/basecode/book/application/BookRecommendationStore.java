@@ -0,0 +1,218 @@
+package com.likelion.basecode.book.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.basecode.book.api.dto.response.BookResponseDto;
+import com.likelion.basecode.book.domain.PostBookRecommendation;
+import com.likelion.basecode.book.domain.repository.PostBookRecommendationRepository;
+import com.likelion.basecode.common.datasource.DataSourceRouting;
+import com.likelion.basecode.post.application.PostTagsChangedEvent;
+import com.likelion.basecode.posttag.domain.repository.PostTagName;
+import com.likelion.basecode.posttag.domain.repository.PostTagRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+// 게시물별 추천 도서를 미리 계산해 post_book_recommendation 테이블에 보관 (조회는 게시물 id PK 조회 한 번)
+// - 게시물 태그가 바뀌면(PostTagsChangedEvent) 같은 트랜잭션에서 행을 삭제하고, 커밋 후 백그라운드에서 다시 계산
+// - 도서 카탈로그가 바뀌면(BookCatalogSync) 태그가 등록된 모든 게시물의 추천 도서를 다시 계산
+// - 다시 계산하기 전에 들어온 요청은 직접 계산한 결과를 백그라운드에서 행이 없을 때만 저장 (다시 계산된 결과를 덮어쓰지 않음)
+// - 태그가 바뀐 직후(복제 지연 기준 시간 동안)의 조회는 replica에 남은 이전 추천 도서를 읽지 않도록 primary에서 조회
+//   (이 인스턴스에서 커밋된 변경만 알 수 있으며, 변경한 클라이언트는 다른 인스턴스에서도 PrimaryStickinessFilter로 primary 사용)
+// - 테이블은 모든 인스턴스가 공유하므로, 이 인스턴스의 검색 색인이 아직 로컬 저장소와 맞는지 확인되지 않았다면(기동 직후 등)
+//   계산한 결과를 저장하지 않음 (비어 있거나 이전 카탈로그의 결과가 다른 인스턴스로 퍼지지 않도록)
+@Slf4j
+@Service
+public class BookRecommendationStore {
+
+    // 게시물 하나에 추천하는 최대 도서 수
+    public static final int RECOMMENDATION_LIMIT = 3;
+
+    private final PostBookRecommendationRepository recommendationRepository;
+    private final PostTagRepository postTagRepository;
+    private final BookSearchIndex bookSearchIndex;
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+    // 전체 재계산 시 한 번에 처리하는 게시물 수
+    private final int batchSize;
+    // 태그 변경 커밋 후 조회를 primary로 보내는 시간 (replica가 이보다 더 지연되면 라우팅에서 이미 primary 사용)
+    private final long primaryReadMs;
+    // 태그가 바뀐 게시물 id -> primary 조회 만료 시각(ms)
+    private final Map<Long, Long> recentlyChanged = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public BookRecommendationStore(
+            PostBookRecommendationRepository recommendationRepository,
+            PostTagRepository postTagRepository,
+            BookSearchIndex bookSearchIndex,
+            ObjectMapper objectMapper,
+            @Qualifier("bookRecommendationExecutor") Executor executor,
+            MeterRegistry meterRegistry,
+            @Value("${book.recommendation.batch-size:500}") int batchSize,
+            @Value("${datasource.replica.max-lag-ms:2000}") long primaryReadMs
+    ) {
+        this.recommendationRepository = recommendationRepository;
+        this.postTagRepository = postTagRepository;
+        this.bookSearchIndex = bookSearchIndex;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.primaryReadMs = primaryReadMs;
+
+        this.hitCounter = Counter.builder("book.recommendation.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("book.recommendation.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    // 미리 계산된 추천 도서 조회 (없다면 empty)
+    @Transactional(readOnly = true)
+    public Optional<List<BookResponseDto>> find(Long postId) {
+        Optional<List<BookResponseDto>> books = recommendationRepository.findBooksByPostId(postId).map(this::decode);
+        (books.isPresent() ? hitCounter : missCounter).increment();
+        return books;
+    }
+
+    // 태그로 추천 도서 계산 (도서 검색 색인 조회)
+    public List<BookResponseDto> compute(Collection<String> tags) {
+        return bookSearchIndex.search(tags, RECOMMENDATION_LIMIT);
+    }
+
+    // 요청 시점에 계산한 추천 도서를 아직 저장된 결과가 없을 때만 저장
+    public void putIfAbsent(Long postId, List<BookResponseDto> books) {
+        recommendationRepository.insertIfAbsent(new PostBookRecommendation(postId, encode(books), Instant.now()));
+    }
+
+    // 조회 요청에서 계산한 추천 도서를 백그라운드에서 저장 (조회 요청이 primary 연결과 쓰기를 기다리지 않도록 함)
+    // 작업 큐가 가득 차 버려지더라도 다음 요청에서 다시 계산
+    public void putIfAbsentAsync(Long postId, List<BookResponseDto> books) {
+        if (!bookSearchIndex.isVerified()) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                putIfAbsent(postId, books);
+            } catch (RuntimeException e) {
+                log.warn("추천 도서 저장 실패 (postId = {}): {}", postId, e.getMessage());
+            }
+        });
+    }
+
+    // 최근에 태그가 바뀌어 replica에 이전 추천 도서나 태그가 남아 있을 수 있는 게시물인지
+    public boolean changedRecently(Long postId) {
+        Long until = recentlyChanged.get(postId);
+        return until != null && System.currentTimeMillis() < until;
+    }
+
+    // 게시물 태그 변경 트랜잭션 안에서 기존 추천 도서 삭제 (롤백되면 함께 롤백)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void evict(PostTagsChangedEvent event) {
+        recommendationRepository.deleteAllByIdInBatch(event.postIds());
+    }
+
+    // 커밋 이후 바뀐 태그로 다시 계산 (작업 큐가 가득 차 버려지더라도 다음 요청에서 직접 계산)
+    // 방금 커밋된 태그를 읽어야 하므로 replica가 아닌 primary에서 조회
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void recomputeAfterCommit(PostTagsChangedEvent event) {
+        long now = System.currentTimeMillis();
+        recentlyChanged.values().removeIf(until -> until <= now);
+        event.postIds().forEach(postId -> recentlyChanged.put(postId, now + primaryReadMs));
+        // 검색 색인이 확인되기 전이라면 다시 계산하지 않음 (행은 이미 삭제되었으므로 다음 요청에서 계산)
+        if (!bookSearchIndex.isVerified()) {
+            return;
+        }
+
+        executor.execute(() -> {
+            try {
+                DataSourceRouting.onPrimary(() -> recompute(event.postIds()));
+            } catch (RuntimeException e) {
+                log.warn("추천 도서 재계산 실패 (postIds = {}): {}", event.postIds(), e.getMessage());
+            }
+        });
+    }
+
+    // 게시물들의 등록된 태그로 추천 도서를 다시 계산해 저장 (태그가 없거나 삭제된 게시물은 행 삭제)
+    public void recompute(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        Map<Long, List<String>> tagNames = postTagRepository.findTagNamesByPostIdIn(postIds).stream()
+                .collect(Collectors.groupingBy(PostTagName::postId,
+                        Collectors.mapping(PostTagName::tagName, Collectors.toList())));
+
+        Instant now = Instant.now();
+        List<PostBookRecommendation> recommendations = new ArrayList<>(tagNames.size());
+        tagNames.forEach((postId, tags) ->
+                recommendations.add(new PostBookRecommendation(postId, encode(compute(tags)), now)));
+        recommendationRepository.upsertAll(recommendations);
+
+        List<Long> untaggedPostIds = postIds.stream()
+                .filter(postId -> !tagNames.containsKey(postId))
+                .toList();
+        if (!untaggedPostIds.isEmpty()) {
+            recommendationRepository.deleteAllByIdInBatch(untaggedPostIds);
+        }
+    }
+
+    // 도서 카탈로그가 바뀐 뒤 태그가 등록된 모든 게시물의 추천 도서를 batchSize 개씩 다시 계산, 계산한 게시물 수 반환
+    // 태그가 없는 게시물의 결과(요청 시 AI 추천 태그로 계산)는 태그를 알 수 없으므로 삭제해 다음 요청에서 다시 계산
+    // 트랜잭션 하나로 묶지 않고 batch 단위로 반영 (긴 트랜잭션 방지)
+    public int recomputeAll() {
+        recommendationRepository.deleteUntagged();
+
+        int count = 0;
+        long cursor = 0;
+        while (true) {
+            List<Long> postIds = postTagRepository.findTaggedPostIds(cursor, PageRequest.of(0, batchSize));
+            if (postIds.isEmpty()) {
+                return count;
+            }
+            recompute(postIds);
+            count += postIds.size();
+            cursor = postIds.get(postIds.size() - 1);
+        }
+    }
+
+    // [title, alternativeTitle, author, url] 배열의 JSON 배열로 변환
+    private String encode(List<BookResponseDto> books) {
+        List<String[]> rows = books.stream()
+                .map(book -> new String[]{book.title(), book.alternativeTitle(), book.author(), book.url()})
+                .toList();
+        try {
+            return objectMapper.writeValueAsString(rows);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<BookResponseDto> decode(String json) {
+        try {
+            return Arrays.stream(objectMapper.readValue(json, String[][].class))
+                    .map(row -> new BookResponseDto(row[0], row[1], row[2], row[3]))
+                    .toList();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.likelion.basecode.book.application;
+
+import com.likelion.basecode.book.api.dto.response.BookResponseDto;
+import com.likelion.basecode.book.domain.repository.PagedBook;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.DisjunctionMaxQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+// 도서 title / alternativeTitle 전문 검색 색인 (Lucene, 디스크에 저장되어 재시작 후에도 유지)
+// - 한국어 형태소 분석기(nori)로 색인/검색하므로 "자바의 정석"은 "자바" 태그로 검색됨 (조사 등은 제거)
+// - 태그별로 alternativeTitle(가중치 2) 또는 title 에 태그의 모든 형태소가 포함되면 일치, 일치한 태그가 많을수록 높은 점수(BM25)
+// - 도서 API 페이지 단위로 교체되며, BookCatalogStore가 DB보다 먼저 반영 (DB 반영이 실패해도 다음 동기화에서 다시 교체됨)
+// - 페이지 교체는 커밋(fsync) 없이 검색에만 바로 반영(near real-time)하고, 디스크 커밋은 동기화 실행마다 한 번(commit)
+//   동기화 시작 시 커밋 데이터에 "반영 중" 표시를 남겨, 커밋 전에 종료되었다면 다음 기동 후 로컬 저장소 기준으로 다시 생성
+// - 색인은 인스턴스마다 따로 있으므로 커밋 데이터에 반영한 로컬 저장소의 카탈로그 버전을 남겨,
+//   다른 인스턴스가 동기화한 변경은 버전이 달라진 것으로 확인해 다시 생성 (BookCatalogStore.rebuildSearchIndexIfStale)
+@Component
+public class BookSearchIndex {
+
+    // 페이지 단위 원자적 교체(updateDocuments)용 키와, 마지막 페이지 이후 범위 삭제용 숫자 필드
+    private static final String PAGE_KEY = "page";
+    private static final String PAGE_NO = "page_no";
+    private static final String TITLE = "title";
+    private static final String ALTERNATIVE_TITLE = "alternative_title";
+    private static final String AUTHOR = "author";
+    private static final String URL = "url";
+    private static final float ALTERNATIVE_TITLE_BOOST = 2f;
+    // 커밋 데이터 키 : 커밋되지 않은 페이지 교체가 있을 수 있는 상태
+    private static final String UPDATING = "updating";
+    // 커밋 데이터 키 : 색인에 반영한 로컬 저장소의 카탈로그 버전
+    private static final String CATALOG_VERSION = "catalog_version";
+
+    private final Analyzer analyzer = new KoreanAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    // 마지막 커밋이 동기화 도중의 커밋이었는지 (그 뒤의 페이지 교체가 유실되었을 수 있음)
+    private volatile boolean incomplete;
+    // 마지막 커밋에 기록한 카탈로그 버전 (모르면 null)
+    private volatile String catalogVersion;
+    // 이 프로세스에서 로컬 저장소와 맞는지 확인했는지 (확인 전의 검색 결과는 공유 테이블에 저장하지 않음)
+    private volatile boolean verified;
+
+    // indexDir이 비어 있으면 메모리에만 색인 (테스트/벤치마크용)
+    @Autowired
+    public BookSearchIndex(@Value("${book.search.index-dir:data/book-index}") String indexDir) throws IOException {
+        this(indexDir.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexDir)));
+    }
+
+    BookSearchIndex(Directory directory) throws IOException {
+        this.directory = directory;
+        Map<String, String> commitData = DirectoryReader.indexExists(directory)
+                ? SegmentInfos.readLatestCommit(directory).getUserData()
+                : Map.of();
+        this.incomplete = "true".equals(commitData.get(UPDATING));
+        this.catalogVersion = commitData.get(CATALOG_VERSION);
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        // 처음 만든 색인도 바로 검색할 수 있도록 빈 커밋 생성
+        this.writer.commit();
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    // 동기화 시작 : 이후 commit 전까지의 페이지 교체는 디스크에 커밋하지 않음
+    public void beginUpdates() {
+        try {
+            commit(true, catalogVersion);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 동기화 종료 : 지금까지의 페이지 교체를 반영한 카탈로그 버전과 함께 한 번에 디스크에 커밋
+    public void commitUpdates(String catalogVersion) {
+        try {
+            commit(false, catalogVersion);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 이전 동기화가 커밋 전에 종료되어 색인이 로컬 저장소와 다를 수 있는지
+    public boolean isIncomplete() {
+        return incomplete;
+    }
+
+    // 마지막 커밋이 catalogVersion 카탈로그를 모두 반영했는지
+    public boolean isCurrent(String catalogVersion) {
+        return !incomplete && Objects.equals(this.catalogVersion, catalogVersion);
+    }
+
+    // 이 프로세스에서 로컬 저장소 기준으로 생성했거나 저장소와 맞는지 확인한 색인인지
+    public boolean isVerified() {
+        return verified;
+    }
+
+    public void markVerified() {
+        verified = true;
+    }
+
+    // pageNo 페이지의 도서를 books로 교체 (검색에는 바로 반영, 디스크 커밋은 commitUpdates에서)
+    public void replacePage(int pageNo, List<BookResponseDto> books) {
+        try {
+            // 삭제와 추가를 한 번에 반영해 검색 중에 페이지가 비어 보이지 않도록 함
+            writer.updateDocuments(new Term(PAGE_KEY, String.valueOf(pageNo)),
+                    books.stream().map(book -> toDocument(pageNo, book)).toList());
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 마지막 페이지(lastPageNo) 이후의 도서 삭제 (검색에는 바로 반영, 디스크 커밋은 commitUpdates에서)
+    public void deletePagesAfter(int lastPageNo) {
+        try {
+            writer.deleteDocuments(IntPoint.newRangeQuery(PAGE_NO, lastPageNo + 1, Integer.MAX_VALUE));
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 카탈로그 버전을 모르는 도서로 다시 생성 (테스트/벤치마크용, 다음 확인에서 로컬 저장소 기준으로 다시 생성됨)
+    void rebuild(List<PagedBook> books) {
+        rebuild(books, null);
+    }
+
+    // 색인 전체를 로컬 도서 저장소(catalogVersion 카탈로그)의 도서로 다시 생성 (바로 커밋)
+    public void rebuild(List<PagedBook> books, String catalogVersion) {
+        try {
+            writer.deleteAll();
+            writer.addDocuments(books.stream().map(book -> toDocument(book.pageNo(), book.toDto())).toList());
+            commit(false, catalogVersion);
+            verified = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 색인된 도서 수
+    public int size() {
+        return withSearcher(searcher -> searcher.getIndexReader().numDocs());
+    }
+
+    // 태그 중 하나라도 일치하는 도서를 점수가 높은 순으로 최대 limit개 반환
+    public List<BookResponseDto> search(Collection<String> tags, int limit) {
+        Query query = tagQuery(tags);
+        if (query == null) {
+            return List.of();
+        }
+
+        return withSearcher(searcher -> {
+            ScoreDoc[] hits = searcher.search(query, limit).scoreDocs;
+            List<BookResponseDto> books = new ArrayList<>(hits.length);
+            for (ScoreDoc hit : hits) {
+                Document document = searcher.storedFields().document(hit.doc);
+                books.add(new BookResponseDto(
+                        document.get(TITLE), document.get(ALTERNATIVE_TITLE), document.get(AUTHOR), document.get(URL)));
+            }
+            return books;
+        });
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    // updating : 이 커밋 이후 커밋되지 않은 변경이 생길 예정인지, catalogVersion : 반영한 카탈로그 버전 (커밋 데이터에 기록)
+    private void commit(boolean updating, String catalogVersion) throws IOException {
+        Map<String, String> commitData = new HashMap<>();
+        commitData.put(UPDATING, String.valueOf(updating));
+        if (catalogVersion != null) {
+            commitData.put(CATALOG_VERSION, catalogVersion);
+        }
+        writer.setLiveCommitData(commitData.entrySet());
+        writer.commit();
+        incomplete = false;
+        this.catalogVersion = catalogVersion;
+        searcherManager.maybeRefreshBlocking();
+    }
+
+    // 태그별 (alternativeTitle^2 | title) 쿼리를 OR로 묶음 (형태소가 하나도 남지 않는 태그는 제외)
+    private Query tagQuery(Collection<String> tags) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        boolean hasClause = false;
+        for (String tag : new LinkedHashSet<>(tags)) {
+            List<String> terms = analyze(tag);
+            if (terms.isEmpty()) {
+                continue;
+            }
+            query.add(new DisjunctionMaxQuery(List.of(
+                    new BoostQuery(allTerms(ALTERNATIVE_TITLE, terms), ALTERNATIVE_TITLE_BOOST),
+                    allTerms(TITLE, terms)), 0f), BooleanClause.Occur.SHOULD);
+            hasClause = true;
+        }
+        return hasClause ? query.build() : null;
+    }
+
+    private static Query allTerms(String field, List<String> terms) {
+        if (terms.size() == 1) {
+            return new TermQuery(new Term(field, terms.get(0)));
+        }
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        terms.forEach(term -> query.add(new TermQuery(new Term(field, term)), BooleanClause.Occur.MUST));
+        return query.build();
+    }
+
+    // 색인과 같은 분석기로 태그를 형태소 단위로 분리
+    private List<String> analyze(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        try (TokenStream tokenStream = analyzer.tokenStream(TITLE, normalize(text))) {
+            CharTermAttribute term = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            tokenStream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return List.copyOf(terms);
+    }
+
+    private static Document toDocument(int pageNo, BookResponseDto book) {
+        Document document = new Document();
+        document.add(new StringField(PAGE_KEY, String.valueOf(pageNo), Field.Store.NO));
+        document.add(new IntPoint(PAGE_NO, pageNo));
+        document.add(new TextField(TITLE, normalize(book.title()), Field.Store.YES));
+        document.add(new TextField(ALTERNATIVE_TITLE, normalize(book.alternativeTitle()), Field.Store.YES));
+        document.add(new StoredField(AUTHOR, Objects.toString(book.author(), "")));
+        document.add(new StoredField(URL, Objects.toString(book.url(), "")));
+        return document;
+    }
+
+    // 자모가 분리된(NFD) 한글도 같은 형태소로 분석되도록 NFC로 정규화 (null은 빈 문자열)
+    private static String normalize(String text) {
+        return text == null ? "" : Normalizer.normalize(text, Normalizer.Form.NFC);
+    }
+
+    private <T> T withSearcher(SearcherFunction<T> function) {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return function.apply(searcher);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface SearcherFunction<T> {
+        T apply(IndexSearcher searcher) throws IOException;
+    }
+}
@@ -1,41 +1,111 @@
 package com.likelion.basecode.book.application;
 
 import com.likelion.basecode.book.api.dto.response.BookListResponseDto;
+import com.likelion.basecode.book.api.dto.response.BookPageResponseDto;
 import com.likelion.basecode.book.api.dto.response.BookResponseDto;
-import com.likelion.basecode.common.client.BookSearchClient;
+import com.likelion.basecode.book.domain.repository.BookRepository;
+import com.likelion.basecode.book.domain.repository.PagedBook;
 import com.likelion.basecode.common.client.TagRecommendationClient;
+import com.likelion.basecode.common.datasource.DataSourceRouting;
 import com.likelion.basecode.common.error.ErrorCode;
 import com.likelion.basecode.common.exception.BusinessException;
 import com.likelion.basecode.post.domain.Post;
 import com.likelion.basecode.post.domain.repository.PostRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.Optional;
 
+// 도서 추천 단계별 소요 시간 지표 : book.recommendation.stage (stage 태그)
+// - precomputed_lookup : 미리 계산된 추천 도서 조회, post_lookup : 게시글/태그 조회
+// - tag_recommendation : 등록된 태그가 없을 때 AI 태그 추천, search : 검색 색인 조회
 @Service
-@RequiredArgsConstructor
 public class BookService {
 
+    // 전체 도서 목록 한 페이지의 기본/최대 크기
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    // 전체 도서 목록 cursor : "pageNo:itemNo"
+    private static final String CURSOR_DELIMITER = ":";
+
     private final PostRepository postRepository;
     private final TagRecommendationClient tagClient;
-    private final BookSearchClient bookSearchClient;
+    private final BookRepository bookRepository;
+    private final BookRecommendationStore bookRecommendationStore;
 
-    // 전체 도서 목록 조회
-    public BookListResponseDto fetchAllRecommendedBooks() {
-        List<BookResponseDto> books = bookSearchClient.fetchAllBooks();
-        return new BookListResponseDto(books);
+    private final Timer precomputedLookupTimer;
+    private final Timer postLookupTimer;
+    private final Timer tagRecommendationTimer;
+    private final Timer searchTimer;
+
+    public BookService(
+            PostRepository postRepository,
+            TagRecommendationClient tagClient,
+            BookRepository bookRepository,
+            BookRecommendationStore bookRecommendationStore,
+            MeterRegistry meterRegistry
+    ) {
+        this.postRepository = postRepository;
+        this.tagClient = tagClient;
+        this.bookRepository = bookRepository;
+        this.bookRecommendationStore = bookRecommendationStore;
+
+        this.precomputedLookupTimer = stageTimer("precomputed_lookup", meterRegistry);
+        this.postLookupTimer = stageTimer("post_lookup", meterRegistry);
+        this.tagRecommendationTimer = stageTimer("tag_recommendation", meterRegistry);
+        this.searchTimer = stageTimer("search", meterRegistry);
+    }
+
+    // 전체 도서 목록을 도서 API 순서대로 페이지 단위로 조회 ((pageNo, itemNo) 기준 keyset 페이지네이션)
+    // 전체 도서를 메모리에 올리거나 한 응답에 모두 담지 않도록 페이지 크기는 MAX_PAGE_SIZE로 제한
+    public BookPageResponseDto fetchAllRecommendedBooks(String cursor, int size) {
+        // 1. 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        int pageSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        int[] position = cursor == null ? new int[]{0, -1} : parseCursor(cursor);
+        List<PagedBook> books = bookRepository.findPagedBooksAfter(
+                position[0], position[1], PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = books.size() > pageSize;
+        List<PagedBook> pageBooks = hasNext ? books.subList(0, pageSize) : books;
+
+        // 2. 마지막 도서의 (pageNo, itemNo)를 다음 cursor로 사용
+        PagedBook last = hasNext ? pageBooks.get(pageBooks.size() - 1) : null;
+        return BookPageResponseDto.from(
+                pageBooks.stream().map(PagedBook::toDto).toList(),
+                last == null ? null : last.pageNo() + CURSOR_DELIMITER + last.itemNo());
     }
 
     // 특정 게시글의 추천 태그를 기반으로 도서 추천
+    // 태그가 바뀐 직후라면 replica에 남은 이전 추천 도서/태그를 읽지 않도록 모든 조회를 primary에서 실행
     public BookListResponseDto recommendBooksByPostId(Long postId) {
-        // 1. 게시글 조회
-        Post post = postRepository.findById(postId)
+        if (bookRecommendationStore.changedRecently(postId)) {
+            return DataSourceRouting.onPrimary(() -> recommend(postId));
+        }
+        return recommend(postId);
+    }
+
+    private BookListResponseDto recommend(Long postId) {
+        // 0. 미리 계산된 추천 도서가 있다면 게시글 id 조회 한 번으로 응답
+        Optional<List<BookResponseDto>> precomputed = precomputedLookupTimer.record(
+                () -> bookRecommendationStore.find(postId));
+        if (precomputed.isPresent()) {
+            return toResponse(precomputed.get());
+        }
+
+        // 1. 게시글 조회 (저장된 태그까지 함께 조회)
+        Post post = postLookupTimer.record(() -> postRepository.findByIdWithTags(postId))
                 .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND_EXCEPTION,
                         ErrorCode.POST_NOT_FOUND_EXCEPTION.getMessage()));
 
-        // 2. AI 기반 태그 추천
-        List<String> tags = tagClient.getRecommendedTags(post.getContents());
+        // 2. 게시글 저장 시 등록된 태그 사용 (등록된 태그가 없을 때만 AI 기반 태그 추천)
+        List<String> tags = post.getPostTags().stream()
+                .map(postTag -> postTag.getTag().getName())
+                .toList();
+        if (tags.isEmpty()) {
+            tags = tagRecommendationTimer.record(() -> tagClient.getRecommendedTags(post.getContents()));
+        }
 
         // 3. 태그 추천 결과가 비어있는 경우 예외 처리
         if (tags.isEmpty()) {
@@ -43,38 +113,40 @@ public class BookService {
                     ErrorCode.TAG_RECOMMENDATION_EMPTY.getMessage());
         }
 
-        // 4. 전체 도서 목록 조회
-        List<BookResponseDto> allBooks = bookSearchClient.fetchAllBooks();
-        // 5. alternativeTitle에 태그가 포함된 도서만 필터링
-        List<BookResponseDto> filteredBooks = filterBooksByAlternativeTitle(allBooks, tags);
+        // 4. 도서 검색 색인에서 alternativeTitle/title이 태그와 일치하는 도서를 관련도(일치한 태그 수, BM25) 순으로 조회
+        List<String> searchTags = tags;
+        List<BookResponseDto> filteredBooks = searchTimer.record(() -> bookRecommendationStore.compute(searchTags));
 
-        // 6. 필터링 결과가 비어있으면 예외 처리
-        if (filteredBooks.isEmpty()) {
-            throw new BusinessException(ErrorCode.BOOK_API_NO_RESULT, ErrorCode.BOOK_API_NO_RESULT.getMessage());
+        // 5. 다음 요청부터 바로 응답할 수 있도록 백그라운드에서 저장 (그 사이 태그가 바뀌어 다시 계산된 결과가 있다면 덮어쓰지 않음)
+        bookRecommendationStore.putIfAbsentAsync(postId, filteredBooks);
+
+        // 6. 최종 결과 반환 (필터링 결과가 비어있으면 예외 처리)
+        return toResponse(filteredBooks);
+    }
+
+    // cursor("pageNo:itemNo") -> {pageNo, itemNo}
+    private static int[] parseCursor(String cursor) {
+        String[] parts = cursor.split(CURSOR_DELIMITER, -1);
+        try {
+            if (parts.length == 2) {
+                return new int[]{Integer.parseInt(parts[0]), Integer.parseInt(parts[1])};
+            }
+        } catch (NumberFormatException e) {
+            // 아래에서 잘못된 cursor로 처리
         }
+        throw new BusinessException(ErrorCode.INVALID_BOOK_CURSOR, ErrorCode.INVALID_BOOK_CURSOR.getMessage() + cursor);
+    }
 
-        // 7. 최종 결과 반환
-        return new BookListResponseDto(filteredBooks);
+    private static Timer stageTimer(String stage, MeterRegistry meterRegistry) {
+        return Timer.builder("book.recommendation.stage")
+                .tag("stage", stage)
+                .register(meterRegistry);
     }
 
-    // 도서 목록에서 alternativeTitle에 태그가 포함된 도서를 필터링
-    private List<BookResponseDto> filterBooksByAlternativeTitle(
-            List<BookResponseDto> books, List<String> tags
-    ) {
-        return books.stream()
-                // 각 도서(book)에 대해 필터링 조건 적용
-                .filter(book ->
-                        // 추천된 태그 중 하나라도 alternativeTitle에 포함되어 있는지 확인
-                        tags.stream().anyMatch(tag -> {
-                            // alternativeTitle이 null일 수 있으므로 Optional로 처리하여 빈 문자열로 대체
-                            String altTitle = Optional.ofNullable(book.alternativeTitle()).orElse("");
-                            // alternativeTitle에 현재 태그가 포함되어 있는 경우 true
-                            return altTitle.contains(tag);
-                        })
-                )
-                // 최대 3개의 도서만 선택
-                .limit(3)
-                // 결과를 리스트로 변환
-                .toList();
+    private static BookListResponseDto toResponse(List<BookResponseDto> books) {
+        if (books.isEmpty()) {
+            throw new BusinessException(ErrorCode.BOOK_API_NO_RESULT, ErrorCode.BOOK_API_NO_RESULT.getMessage());
+        }
+        return new BookListResponseDto(books);
     }
 }
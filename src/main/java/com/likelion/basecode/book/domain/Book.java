@@ -0,0 +1,39 @@
+package com.likelion.basecode.book.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 외부 도서 API에서 동기화한 도서 (도서 API의 페이지 번호와 페이지 안의 순서로 식별)
+// 페이지 단위로 교체되므로 BookRepository.replacePage 로만 저장
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_book_page_item", columnNames = {"page_no", "item_no"}))
+public class Book {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "book_id")
+    private Long id;
+
+    @Column(name = "page_no", nullable = false)
+    private int pageNo;
+
+    // 페이지 안에서의 순서 (0부터 시작)
+    @Column(name = "item_no", nullable = false)
+    private int itemNo;
+
+    @Column(nullable = false, length = 1000)
+    private String title;
+
+    @Column(name = "alternative_title", nullable = false, length = 1000)
+    private String alternativeTitle;
+
+    @Column(nullable = false, length = 1000)
+    private String author;
+
+    @Column(nullable = false, length = 2000)
+    private String url;
+}
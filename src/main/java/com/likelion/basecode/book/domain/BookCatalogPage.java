@@ -0,0 +1,60 @@
+package com.likelion.basecode.book.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.Instant;
+
+// 외부 도서 API 페이지별 동기화 상태
+// - contentHash : 페이지 도서 목록의 해시 (내용이 같으면 도서 행을 다시 쓰지 않음)
+// - etag, lastModified : 다음 동기화에서 조건부 요청(If-None-Match / If-Modified-Since)에 사용
+// - syncedAt : 마지막으로 확인한 시각 (중단된 동기화를 이어서 진행할 때 이미 확인한 페이지를 건너뜀)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BookCatalogPage {
+
+    @Id
+    @Column(name = "page_no")
+    private Integer pageNo;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "item_count", nullable = false)
+    private int itemCount;
+
+    @Column(length = 512)
+    private String etag;
+
+    @Column(name = "last_modified", length = 64)
+    private String lastModified;
+
+    @Column(name = "synced_at", nullable = false)
+    private Instant syncedAt;
+
+    public BookCatalogPage(Integer pageNo) {
+        this.pageNo = pageNo;
+    }
+
+    // 내용이 바뀐 페이지를 반영
+    public void update(String contentHash, int itemCount, String etag, String lastModified, Instant syncedAt) {
+        this.contentHash = contentHash;
+        this.itemCount = itemCount;
+        markChecked(etag, lastModified, syncedAt);
+    }
+
+    // 내용이 바뀌지 않은 페이지는 확인 시각과 조건부 요청 값만 갱신
+    public void markChecked(String etag, String lastModified, Instant syncedAt) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.syncedAt = syncedAt;
+    }
+
+    public boolean isSyncedSince(Instant instant) {
+        return !syncedAt.isBefore(instant);
+    }
+}
@@ -0,0 +1,60 @@
+package com.likelion.basecode.book.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.Instant;
+
+// 외부 도서 API 전체 동기화 진행 상태
+// 동기화가 끝나기 전에 실패/종료되면 completedAt이 비어 있으므로, 다음 동기화는 같은 startedAt 기준으로 이어서 진행
+// 여러 인스턴스 중 실행 권한(lease)을 얻은 인스턴스만 동기화 (leaseUntil이 지나면 다른 인스턴스가 이어받음)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BookCatalogSyncState {
+
+    // 상태 행은 하나만 사용
+    public static final Long SINGLETON_ID = 1L;
+
+    @Id
+    @Column(name = "book_catalog_sync_state_id")
+    private Long id;
+
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    // 마지막으로 완료된 동기화의 전체 도서 수 (한 번도 완료되지 않았다면 null)
+    @Column(name = "total_count")
+    private Integer totalCount;
+
+    // 동기화 실행 권한을 가진 인스턴스와 그 만료 시각 (실행 중이 아니라면 null)
+    @Column(name = "lease_owner", length = 64)
+    private String leaseOwner;
+
+    @Column(name = "lease_until")
+    private Instant leaseUntil;
+
+    public BookCatalogSyncState(Long id) {
+        this.id = id;
+    }
+
+    public boolean isInProgress() {
+        return startedAt != null && completedAt == null;
+    }
+
+    public void start(Instant now) {
+        this.startedAt = now;
+        this.completedAt = null;
+    }
+
+    public void complete(Instant now, int totalCount) {
+        this.completedAt = now;
+        this.totalCount = totalCount;
+    }
+}
@@ -0,0 +1,34 @@
+package com.likelion.basecode.book.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.Instant;
+
+// 게시물별로 미리 계산해 둔 추천 도서 (게시물 id 하나로 조회)
+// - books : 추천 도서 목록을 [title, alternativeTitle, author, url] 배열의 JSON 배열로 저장 (필드 이름 없이 값만)
+// - 게시물 태그가 바뀌거나 게시물이 삭제되면 같은 트랜잭션에서 삭제되고, 커밋 후 다시 계산됨
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostBookRecommendation {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String books;
+
+    @Column(name = "computed_at", nullable = false)
+    private Instant computedAt;
+
+    public PostBookRecommendation(Long postId, String books, Instant computedAt) {
+        this.postId = postId;
+        this.books = books;
+        this.computedAt = computedAt;
+    }
+}
@@ -0,0 +1,15 @@
+package com.likelion.basecode.book.domain.repository;
+
+import com.likelion.basecode.book.domain.BookCatalogPage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BookCatalogPageRepository extends JpaRepository<BookCatalogPage, Integer> {
+
+    // 더 이상 존재하지 않는 페이지(lastPageNo 이후)의 동기화 상태 삭제
+    @Modifying
+    @Query("DELETE FROM BookCatalogPage p WHERE p.pageNo > :lastPageNo")
+    int deleteByPageNoGreaterThan(@Param("lastPageNo") int lastPageNo);
+}
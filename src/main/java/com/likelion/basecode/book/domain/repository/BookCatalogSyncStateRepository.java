@@ -0,0 +1,25 @@
+package com.likelion.basecode.book.domain.repository;
+
+import com.likelion.basecode.book.domain.BookCatalogSyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.Instant;
+
+public interface BookCatalogSyncStateRepository extends JpaRepository<BookCatalogSyncState, Long> {
+
+    // 다른 인스턴스의 lease가 없거나 만료되었을 때만 owner가 until까지 lease를 가짐 (행 단위 조건부 UPDATE, 성공하면 1)
+    @Modifying
+    @Query("UPDATE BookCatalogSyncState s SET s.leaseOwner = :owner, s.leaseUntil = :until " +
+            "WHERE s.id = :id AND (s.leaseUntil IS NULL OR s.leaseUntil < :now OR s.leaseOwner = :owner)")
+    int acquireLease(@Param("id") Long id,
+                     @Param("owner") String owner,
+                     @Param("now") Instant now,
+                     @Param("until") Instant until);
+
+    @Modifying
+    @Query("UPDATE BookCatalogSyncState s SET s.leaseOwner = NULL, s.leaseUntil = NULL " +
+            "WHERE s.id = :id AND s.leaseOwner = :owner")
+    int releaseLease(@Param("id") Long id, @Param("owner") String owner);
+}
@@ -0,0 +1,33 @@
+package com.likelion.basecode.book.domain.repository;
+
+import com.likelion.basecode.book.domain.Book;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
+
+public interface BookRepository extends JpaRepository<Book, Long>, BookRepositoryCustom {
+
+    // 도서를 API 순서대로 (pageNo, itemNo) 다음부터 조회 (uk_book_page_item 인덱스를 사용하는 keyset 페이지네이션)
+    @Query("SELECT new com.likelion.basecode.book.domain.repository.PagedBook(" +
+            "b.pageNo, b.itemNo, b.title, b.alternativeTitle, b.author, b.url) " +
+            "FROM Book b " +
+            "WHERE b.pageNo > :pageNo OR (b.pageNo = :pageNo AND b.itemNo > :itemNo) " +
+            "ORDER BY b.pageNo, b.itemNo")
+    List<PagedBook> findPagedBooksAfter(@Param("pageNo") int pageNo,
+                                        @Param("itemNo") int itemNo,
+                                        Pageable pageable);
+
+    // 검색 색인 재생성용 전체 도서 (페이지 번호 포함)
+    @Query("SELECT new com.likelion.basecode.book.domain.repository.PagedBook(" +
+            "b.pageNo, b.itemNo, b.title, b.alternativeTitle, b.author, b.url) " +
+            "FROM Book b ORDER BY b.pageNo, b.itemNo")
+    List<PagedBook> findAllPagedBooks();
+
+    // 더 이상 존재하지 않는 페이지(lastPageNo 이후)의 도서 삭제
+    @Modifying
+    @Query("DELETE FROM Book b WHERE b.pageNo > :lastPageNo")
+    int deleteByPageNoGreaterThan(@Param("lastPageNo") int lastPageNo);
+}
@@ -0,0 +1,10 @@
+package com.likelion.basecode.book.domain.repository;
+
+import com.likelion.basecode.book.api.dto.response.BookResponseDto;
+import java.util.List;
+
+public interface BookRepositoryCustom {
+
+    // pageNo 페이지의 도서를 모두 삭제하고 books로 교체 (JDBC 배치 INSERT)
+    void replacePage(int pageNo, List<BookResponseDto> books);
+}
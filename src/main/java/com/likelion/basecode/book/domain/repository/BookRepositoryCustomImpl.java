@@ -0,0 +1,41 @@
+package com.likelion.basecode.book.domain.repository;
+
+import com.likelion.basecode.book.api.dto.response.BookResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class BookRepositoryCustomImpl implements BookRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void replacePage(int pageNo, List<BookResponseDto> books) {
+        jdbcTemplate.update("DELETE FROM book WHERE page_no = ?", pageNo);
+
+        // IDENTITY 키는 Hibernate 배치 INSERT가 불가능하므로 JDBC 배치로 한 번에 전송
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO book (page_no, item_no, title, alternative_title, author, url) VALUES (?, ?, ?, ?, ?, ?)",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement statement, int i) throws SQLException {
+                        BookResponseDto book = books.get(i);
+                        statement.setInt(1, pageNo);
+                        statement.setInt(2, i);
+                        statement.setString(3, book.title());
+                        statement.setString(4, book.alternativeTitle());
+                        statement.setString(5, book.author());
+                        statement.setString(6, book.url());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return books.size();
+                    }
+                });
+    }
+}
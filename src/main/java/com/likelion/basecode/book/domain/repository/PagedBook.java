@@ -0,0 +1,18 @@
+package com.likelion.basecode.book.domain.repository;
+
+import com.likelion.basecode.book.api.dto.response.BookResponseDto;
+
+// 도서 정보와 도서 API 페이지 번호/페이지 안의 순서만 담는 조회 전용 프로젝션 (검색 색인 재생성, 전체 도서 목록 페이지 조회용)
+public record PagedBook(
+        int pageNo,
+        int itemNo,
+        String title,
+        String alternativeTitle,
+        String author,
+        String url
+) {
+
+    public BookResponseDto toDto() {
+        return new BookResponseDto(title, alternativeTitle, author, url);
+    }
+}
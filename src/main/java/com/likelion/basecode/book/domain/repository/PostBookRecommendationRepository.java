@@ -0,0 +1,24 @@
+package com.likelion.basecode.book.domain.repository;
+
+import com.likelion.basecode.book.domain.PostBookRecommendation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Optional;
+
+public interface PostBookRecommendationRepository
+        extends JpaRepository<PostBookRecommendation, Long>, PostBookRecommendationRepositoryCustom {
+
+    // 추천 도서 JSON만 PK로 조회 (엔티티 생성 없음)
+    @Query("SELECT r.books FROM PostBookRecommendation r WHERE r.postId = :postId")
+    Optional<String> findBooksByPostId(@Param("postId") Long postId);
+
+    // 등록된 태그가 없는 게시물(요청 시 AI 추천 태그로 계산한 결과)의 추천 도서 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PostBookRecommendation r " +
+            "WHERE r.postId NOT IN (SELECT pt.post.postId FROM PostTag pt)")
+    int deleteUntagged();
+}
@@ -0,0 +1,13 @@
+package com.likelion.basecode.book.domain.repository;
+
+import com.likelion.basecode.book.domain.PostBookRecommendation;
+import java.util.List;
+
+public interface PostBookRecommendationRepositoryCustom {
+
+    // 추천 도서를 저장하거나 이미 있다면 덮어씀 (JDBC 배치)
+    void upsertAll(List<PostBookRecommendation> recommendations);
+
+    // 추천 도서가 아직 없을 때만 저장 (이미 있다면 무시), 저장했다면 true
+    boolean insertIfAbsent(PostBookRecommendation recommendation);
+}
@@ -0,0 +1,38 @@
+package com.likelion.basecode.book.domain.repository;
+
+import com.likelion.basecode.book.domain.PostBookRecommendation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.sql.Timestamp;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class PostBookRecommendationRepositoryCustomImpl implements PostBookRecommendationRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsertAll(List<PostBookRecommendation> recommendations) {
+        // JPA save()는 id가 지정된 엔티티마다 SELECT 후 INSERT/UPDATE 하므로 MySQL upsert 한 문장을 배치로 전송
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO post_book_recommendation (post_id, books, computed_at) VALUES (?, ?, ?) " +
+                        "ON DUPLICATE KEY UPDATE books = VALUES(books), computed_at = VALUES(computed_at)",
+                recommendations,
+                recommendations.size(),
+                (statement, recommendation) -> {
+                    statement.setLong(1, recommendation.getPostId());
+                    statement.setString(2, recommendation.getBooks());
+                    statement.setTimestamp(3, Timestamp.from(recommendation.getComputedAt()));
+                });
+    }
+
+    @Override
+    public boolean insertIfAbsent(PostBookRecommendation recommendation) {
+        // 무효화 이후 다시 계산된 결과를 요청 시점에 계산한(오래되었을 수 있는) 결과로 덮어쓰지 않도록 INSERT IGNORE 사용
+        return jdbcTemplate.update(
+                "INSERT IGNORE INTO post_book_recommendation (post_id, books, computed_at) VALUES (?, ?, ?)",
+                recommendation.getPostId(),
+                recommendation.getBooks(),
+                Timestamp.from(recommendation.getComputedAt())) > 0;
+    }
+}
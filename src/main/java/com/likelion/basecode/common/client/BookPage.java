@@ -0,0 +1,23 @@
+package com.likelion.basecode.common.client;
+
+import com.likelion.basecode.book.api.dto.response.BookResponseDto;
+import java.util.List;
+
+// 도서 API 한 페이지의 조회 결과
+// - totalCount : 전체 페이지를 합친 도서 수 (응답에 없으면 -1)
+// - etag, lastModified : 다음 조회 때 변경 여부만 확인하기 위한 응답 헤더 값 (API가 지원하지 않으면 null)
+// - notModified : 조건부 요청에 대해 이전 조회 이후 변경되지 않았다고(304) 응답한 경우 (books는 비어 있음)
+public record BookPage(
+        int pageNo,
+        int totalCount,
+        List<BookResponseDto> books,
+        String etag,
+        String lastModified,
+        boolean notModified
+) {
+    public static final int UNKNOWN_TOTAL_COUNT = BookResponseParser.UNKNOWN_TOTAL_COUNT;
+
+    static BookPage notModified(int pageNo, String etag, String lastModified) {
+        return new BookPage(pageNo, UNKNOWN_TOTAL_COUNT, List.of(), etag, lastModified, true);
+    }
+}
@@ -0,0 +1,161 @@
+package com.likelion.basecode.common.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.likelion.basecode.book.api.dto.response.BookResponseDto;
+import com.likelion.basecode.common.error.ErrorCode;
+import com.likelion.basecode.common.exception.BusinessException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+// 도서 API 응답(response.body.items.item[*], response.body.totalCount)을 토큰 단위로 읽어 바로 BookResponseDto로 변환
+// - 응답 전체를 Map 트리로 만들지 않고, 필요한 네 개 필드 외의 값은 읽지 않고 건너뜀
+// - 도서가 한 권이면 item이 배열이 아닌 객체 하나로 오는 경우도 처리
+final class BookResponseParser {
+
+    // 응답에 totalCount가 없는 경우
+    static final int UNKNOWN_TOTAL_COUNT = -1;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private BookResponseParser() {
+    }
+
+    // 응답 본문 스트림을 파싱 (스트림은 호출한 쪽에서 닫음)
+    static ParsedBooks parse(InputStream inputStream) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+            if (parser.nextToken() == null) {
+                throw new BusinessException(ErrorCode.BOOK_API_RESPONSE_NULL, ErrorCode.BOOK_API_RESPONSE_NULL.getMessage());
+            }
+
+            // response → body 순서로 객체 안으로 이동
+            moveIntoField(parser, "response", ErrorCode.BOOK_API_BODY_MALFORMED);
+            moveIntoField(parser, "body", ErrorCode.BOOK_API_BODY_MALFORMED);
+            return readBody(parser);
+        } catch (StreamReadException e) {
+            // JSON 문법 오류
+            throw malformed(ErrorCode.BOOK_API_BODY_MALFORMED);
+        }
+    }
+
+    // body 객체에서 전체 도서 수(totalCount)와 items.item 을 읽음 (필드 순서와 무관)
+    private static ParsedBooks readBody(JsonParser parser) throws IOException {
+        int totalCount = UNKNOWN_TOTAL_COUNT;
+        List<BookResponseDto> books = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("totalCount".equals(name) && !value.isStructStart()) {
+                totalCount = parser.getValueAsInt(UNKNOWN_TOTAL_COUNT);
+            } else if ("items".equals(name)) {
+                if (value != JsonToken.START_OBJECT || !findField(parser, "item")) {
+                    throw malformed(value == JsonToken.START_OBJECT
+                            ? ErrorCode.BOOK_API_ITEM_MALFORMED
+                            : ErrorCode.BOOK_API_ITEMS_MALFORMED);
+                }
+                books = readItems(parser);
+                skipRemainingFields(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (books == null) {
+            throw malformed(ErrorCode.BOOK_API_ITEMS_MALFORMED);
+        }
+        return new ParsedBooks(totalCount, books);
+    }
+
+    // 현재 객체에서 fieldName 필드를 찾아 그 값(객체)의 시작 위치로 이동
+    private static void moveIntoField(JsonParser parser, String fieldName, ErrorCode errorCode) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT || !findField(parser, fieldName)
+                || parser.currentToken() != JsonToken.START_OBJECT) {
+            throw malformed(errorCode);
+        }
+    }
+
+    // 현재 객체의 필드를 차례로 읽으면서 fieldName 필드의 값 토큰까지 이동 (다른 필드의 값은 건너뜀)
+    private static boolean findField(JsonParser parser, String fieldName) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if (fieldName.equals(name)) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    // 현재 객체의 남은 필드를 모두 건너뛰고 객체의 끝으로 이동
+    private static void skipRemainingFields(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            parser.nextToken();
+            parser.skipChildren();
+        }
+    }
+
+    // item 값(배열 또는 객체 하나)을 도서 목록으로 변환
+    private static List<BookResponseDto> readItems(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+            return List.of(readItem(parser));
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw malformed(ErrorCode.BOOK_API_ITEM_MALFORMED);
+        }
+
+        List<BookResponseDto> books = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+            books.add(readItem(parser));
+        }
+        if (token != JsonToken.END_ARRAY) {
+            throw malformed(ErrorCode.BOOK_API_ITEM_MALFORMED);
+        }
+        return books;
+    }
+
+    // 개별 도서 항목 객체를 BookResponseDto로 변환 (없는 필드는 빈 문자열)
+    private static BookResponseDto readItem(JsonParser parser) throws IOException {
+        String title = "";
+        String alternativeTitle = "";
+        String author = "";
+        String url = "";
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value.isStructStart()) {
+                parser.skipChildren();
+                continue;
+            }
+            switch (name) {
+                case "title" -> title = textOf(parser);                        // 도서 제목
+                case "alternativeTitle" -> alternativeTitle = textOf(parser);  // 대체 제목 (한국어 제목)
+                case "author" -> author = textOf(parser);                      // 저자
+                case "url" -> url = textOf(parser);                            // 상세 페이지 링크
+                default -> {
+                    // 사용하지 않는 필드는 값을 문자열로 만들지 않고 건너뜀
+                }
+            }
+        }
+        return new BookResponseDto(title, alternativeTitle, author, url);
+    }
+
+    private static String textOf(JsonParser parser) throws IOException {
+        return parser.getValueAsString("");
+    }
+
+    private static BusinessException malformed(ErrorCode errorCode) {
+        return new BusinessException(errorCode, errorCode.getMessage());
+    }
+
+    // 응답 한 페이지의 파싱 결과 (totalCount : 전체 페이지를 합친 도서 수)
+    record ParsedBooks(int totalCount, List<BookResponseDto> books) {
+    }
+}
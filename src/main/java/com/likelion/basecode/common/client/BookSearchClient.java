@@ -1,94 +1,82 @@
 package com.likelion.basecode.common.client;
 
-import com.likelion.basecode.book.api.dto.response.BookResponseDto;
 import com.likelion.basecode.common.error.ErrorCode;
-import com.likelion.basecode.common.exception.BusinessException;
-import lombok.RequiredArgsConstructor;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 import java.net.URI;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Component
-@RequiredArgsConstructor
 public class BookSearchClient {
 
     private final RestTemplate restTemplate;
+    // 도서 API 장애 시 호출을 막는 서킷 브레이커와 동시 호출 수 제한 (호출 결과별 소요 시간 기록)
+    private final ExternalApiCalls apiCalls;
+    // 초당 호출 수 제한 (전체 페이지 동기화 시 공공 API 호출 제한 준수)
+    private final RateLimiter rateLimiter;
+    private final String baseUrl;
+    private final String serviceKey;
 
-    @Value("${book-api.base-url}")
-    private String baseUrl;
-
-    @Value("${book-api.service-key}")
-    private String serviceKey;
+    public BookSearchClient(
+            @Qualifier("bookApiRestTemplate") RestTemplate restTemplate,
+            @Qualifier("bookApiCircuitBreaker") CircuitBreaker circuitBreaker,
+            @Qualifier("bookApiBulkhead") Bulkhead bulkhead,
+            @Qualifier("bookApiRateLimiter") RateLimiter rateLimiter,
+            @Value("${book-api.base-url}") String baseUrl,
+            @Value("${book-api.service-key}") String serviceKey,
+            MeterRegistry meterRegistry
+    ) {
+        this.restTemplate = restTemplate;
+        this.apiCalls = new ExternalApiCalls(circuitBreaker, bulkhead,
+                ErrorCode.BOOK_API_UNAVAILABLE, ErrorCode.BOOK_API_BUSY, meterRegistry);
+        this.rateLimiter = rateLimiter;
+        this.baseUrl = baseUrl;
+        this.serviceKey = serviceKey;
+    }
 
-    // 외부 도서 API로부터 전체 도서 목록을 조회
-    public List<BookResponseDto> fetchAllBooks() {
+    // 외부 도서 API의 pageNo 페이지 조회
+    // 이전 조회의 ETag/Last-Modified 값을 함께 보내 API가 조건부 요청을 지원하면 변경되지 않은 페이지는 본문 없이(304) 응답받음
+    public BookPage fetchPage(int pageNo, int pageSize, String etag, String lastModified) {
         URI uri = UriComponentsBuilder.fromUriString(baseUrl)
                 .queryParam("serviceKey", serviceKey)
-                .queryParam("numOfRows", 100) // 한 페이지에 100권 조회 (임의 세팅)
-                .queryParam("pageNo", 150)  // 150번째 페이지 (임의 세팅)
+                .queryParam("numOfRows", pageSize)
+                .queryParam("pageNo", pageNo)
                 .build()
                 .toUri();
 
-        // 외부 API 호출
-        ResponseEntity<Map> response = restTemplate.getForEntity(uri, Map.class);
-
-        // 응답 body가 null인 경우 예외 발생
-        Map<String, Object> body = Optional.ofNullable(response.getBody())
-                .orElseThrow(() -> new BusinessException(ErrorCode.BOOK_API_RESPONSE_NULL, ErrorCode.BOOK_API_RESPONSE_NULL.getMessage()));
-
-        // 'item' 리스트를 추출한 후 BookResponseDto 형태로 변환
-        return extractItemList(body).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
-    }
-
-    // 응답 맵에서 도서 항목 리스트 추출
-    @SuppressWarnings("unchecked") // Java 컴파일러 경고를 무시하도록 하는 어노테이션-!
-    private List<Map<String, Object>> extractItemList(Map<String, Object> responseMap) {
-        // 'item' 리스트까지 접근
-        Map<String, Object> response = castToMap(responseMap.get("response"), ErrorCode.BOOK_API_BODY_MALFORMED);
-        Map<String, Object> body = castToMap(response.get("body"), ErrorCode.BOOK_API_BODY_MALFORMED);
-        Map<String, Object> items = castToMap(body.get("items"), ErrorCode.BOOK_API_ITEMS_MALFORMED);
-        Object itemObj = items.get("item");
-
-        // 'itemObj'가 실제로 List<Map<String, Object>> 형태라고 가정하고 형변환
-        // 컴파일러는 타입 안정성을 보장할 수 없기 때문에 unchecked cast 경고가 발생-!
-        // -> 이 경고를 무시하기 위해 @SuppressWarnings("unchecked")를 선언했다고 생각하면 됨
-        if (itemObj instanceof List<?> itemList) {
-            return (List<Map<String, Object>>) itemList;
-        }
-
-        // 그 외는 형식 오류로 예외 처리
-        throw new BusinessException(ErrorCode.BOOK_API_ITEM_MALFORMED, ErrorCode.BOOK_API_ITEM_MALFORMED.getMessage());
-    }
-
-    // 개별 도서 항목 Map을 BookResponseDto로 변환
-    private BookResponseDto toDto(Map<String, Object> item) {
-        return new BookResponseDto(
-                (String) item.getOrDefault("title", ""),              // 도서 제목
-                (String) item.getOrDefault("alternativeTitle", ""),   // 대체 제목 (한국어 제목)
-                (String) item.getOrDefault("author", ""),             // 저자
-                (String) item.getOrDefault("url", "")                 // 상세 페이지 링크
-        );
-    }
-
-    // 위에서 설명한 상황과 유사하다고 생각하면 됨. (정확히는 Map<String, Object> 캐스팅은 컴파일러가 타입 안정성을 확인할 수 없기 때문)
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> castToMap(Object obj, ErrorCode errorCode) {
-        // obj가 Map 타입이 아닌 경우 예외를 발생
-        if (!(obj instanceof Map)) {
-            // 비즈니스 로직에 정의된 에러 코드와 메시지를 포함한 예외를 던짐
-            throw new BusinessException(errorCode, errorCode.getMessage());
-        }
-
-        // Map 타입이 확인 -> 따라서 안전하게 형변환하여 반환-!
-        return (Map<String, Object>) obj;
+        // 외부 API 호출 (초당 호출 수 제한을 지키고, 서킷이 열려 있으면 호출하지 않고 바로 실패)
+        // 응답 본문은 Map으로 변환하지 않고 스트림 그대로 읽으면서 도서 목록으로 변환
+        return apiCalls.call(rateLimiter, () -> restTemplate.execute(uri, HttpMethod.GET,
+                        request -> {
+                            HttpHeaders headers = request.getHeaders();
+                            headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+                            if (etag != null) {
+                                headers.setIfNoneMatch(etag);
+                            }
+                            if (lastModified != null) {
+                                headers.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+                            }
+                        },
+                        response -> {
+                            if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                                return BookPage.notModified(pageNo, etag, lastModified);
+                            }
+                            BookResponseParser.ParsedBooks parsed = BookResponseParser.parse(response.getBody());
+                            return new BookPage(pageNo, parsed.totalCount(), parsed.books(),
+                                    response.getHeaders().getETag(),
+                                    response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED),
+                                    false);
+                        }));
     }
 }
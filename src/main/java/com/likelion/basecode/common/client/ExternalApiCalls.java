@@ -0,0 +1,87 @@
+package com.likelion.basecode.common.client;
+
+import com.likelion.basecode.common.error.ErrorCode;
+import com.likelion.basecode.common.exception.BusinessException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.function.Supplier;
+
+// 외부 API 호출을 서킷 브레이커/벌크헤드로 감싸는 공통 처리 (클라이언트마다 하나씩 생성)
+// 호출 결과별 소요 시간 지표 : external.api.calls (client = 서킷 브레이커 이름, outcome 태그)
+// - success / failure : 외부 API를 실제로 호출한 결과
+// - rejected : 서킷 open 또는 동시 호출 수 초과로 호출하지 않음, rate_limited : 초당 호출 수 허가를 받지 못함
+// 서킷 open은 unavailable(회복될 때까지 바로 거절), 동시 호출 수 초과와 허가 대기 초과는 busy(잠시 후 재시도하면 성공할 수 있음) 예외로 구분
+final class ExternalApiCalls {
+
+    static final String METRIC_NAME = "external.api.calls";
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final ErrorCode unavailable;
+    private final ErrorCode busy;
+    private final MeterRegistry meterRegistry;
+
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Timer rejectedTimer;
+    private final Timer rateLimitedTimer;
+
+    ExternalApiCalls(CircuitBreaker circuitBreaker, Bulkhead bulkhead, ErrorCode unavailable, ErrorCode busy,
+                     MeterRegistry meterRegistry) {
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.unavailable = unavailable;
+        this.busy = busy;
+        this.meterRegistry = meterRegistry;
+
+        this.successTimer = timer("success");
+        this.failureTimer = timer("failure");
+        this.rejectedTimer = timer("rejected");
+        this.rateLimitedTimer = timer("rate_limited");
+    }
+
+    // 서킷이 열려 있으면 unavailable, 동시 호출 수를 넘으면 busy 예외를 외부 API 호출 없이 바로 발생
+    <T> T call(Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Timer timer = failureTimer;
+        try {
+            T result = circuitBreaker.executeSupplier(Bulkhead.decorateSupplier(bulkhead, call));
+            timer = successTimer;
+            return result;
+        } catch (CallNotPermittedException e) {
+            timer = rejectedTimer;
+            throw new BusinessException(unavailable, unavailable.getMessage());
+        } catch (BulkheadFullException e) {
+            timer = rejectedTimer;
+            throw new BusinessException(busy, busy.getMessage());
+        } finally {
+            sample.stop(timer);
+        }
+    }
+
+    // 호출 허가(초당 호출 수)를 먼저 받은 뒤 서킷 브레이커/벌크헤드로 호출 (허가를 기다리는 동안 벌크헤드 자리를 차지하지 않음)
+    <T> T call(RateLimiter rateLimiter, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            RateLimiter.waitForPermission(rateLimiter);
+        } catch (RequestNotPermitted e) {
+            // 허가를 기다린 시간 기록
+            sample.stop(rateLimitedTimer);
+            throw new BusinessException(busy, busy.getMessage());
+        }
+        return call(call);
+    }
+
+    private Timer timer(String outcome) {
+        return Timer.builder(METRIC_NAME)
+                .tag("client", circuitBreaker.getName())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -1,33 +1,112 @@
 package com.likelion.basecode.common.client;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.likelion.basecode.common.error.ErrorCode;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Component
 public class TagRecommendationClient {
 
     // 외부 API 호출을 위한 HTTP 클라이언트
     private final RestTemplate restTemplate;
+    // 태그 추천 API 장애 시 호출을 막는 서킷 브레이커와 동시 호출 수 제한 (호출 결과별 소요 시간 기록)
+    private final ExternalApiCalls apiCalls;
     // 태그 추천 API 엔드포인트 URL
     private final String apiUrl;
+    // contents 해시 -> 추천 태그 (진행 중인 요청도 함께 보관하여 동일 contents 동시 요청은 하나의 외부 호출을 공유)
+    private final Cache<String, CompletableFuture<List<String>>> recommendations;
+
+    private final Counter hitCounter;
+    private final Counter coalescedCounter;
+    private final Counter missCounter;
 
     public TagRecommendationClient(
-            RestTemplate restTemplate,
-            @Value("${tag.recommendation.api-url}") String apiUrl
+            @Qualifier("tagApiRestTemplate") RestTemplate restTemplate,
+            @Qualifier("tagApiCircuitBreaker") CircuitBreaker circuitBreaker,
+            @Qualifier("tagApiBulkhead") Bulkhead bulkhead,
+            @Value("${tag.recommendation.api-url}") String apiUrl,
+            @Value("${tag.recommendation.cache.max-size:10000}") long cacheMaxSize,
+            @Value("${tag.recommendation.cache.ttl-ms:3600000}") long cacheTtlMs,
+            MeterRegistry meterRegistry
     ) {
         this.restTemplate = restTemplate;
+        this.apiCalls = new ExternalApiCalls(circuitBreaker, bulkhead,
+                ErrorCode.TAG_API_UNAVAILABLE, ErrorCode.TAG_API_BUSY, meterRegistry);
         this.apiUrl = apiUrl;
+        this.recommendations = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofMillis(cacheTtlMs))
+                .build();
+
+        this.hitCounter = Counter.builder("tag.recommendation.cache.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("tag.recommendation.cache.requests")
+                .tag("result", "coalesced")
+                .description("이미 진행 중인 동일 contents 요청의 결과를 공유한 횟수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("tag.recommendation.cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("tag.recommendation.calls.saved", this,
+                        client -> client.hitCounter.count() + client.coalescedCounter.count())
+                .description("캐시/요청 병합으로 생략된 외부 태그 추천 API 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("tag.recommendation.cache.hit.ratio", this, TagRecommendationClient::hitRatio)
+                .register(meterRegistry);
     }
 
-    // 게시물 contents를 기반으로 추천 태그 목록 요청
+    // 게시물 contents를 기반으로 추천 태그 목록 조회 (캐시에 없을 때만 외부 API 호출)
     public List<String> getRecommendedTags(String contents) {
+        String key = contentsHash(contents);
+
+        // 진행 중이거나 완료된 동일 contents 요청이 있다면 그 결과를 공유
+        CompletableFuture<List<String>> pending = new CompletableFuture<>();
+        CompletableFuture<List<String>> existing = recommendations.asMap().putIfAbsent(key, pending);
+        if (existing != null) {
+            (existing.isDone() ? hitCounter : coalescedCounter).increment();
+            return await(existing);
+        }
+
+        // 처음 들어온 요청만 호출한 스레드에서 직접 외부 API 호출
+        missCounter.increment();
+        try {
+            List<String> tags = apiCalls.call(() -> requestRecommendedTags(contents));
+            pending.complete(tags);
+            return tags;
+        } catch (RuntimeException e) {
+            // 실패한 결과는 캐시에 남기지 않음 (대기 중이던 요청에는 같은 예외 전달)
+            recommendations.asMap().remove(key, pending);
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // 외부 태그 추천 API 호출
+    private List<String> requestRecommendedTags(String contents) {
         // // HTTP 요청 헤더 설정 : Content-Type을 JSON으로 지정
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -42,6 +121,34 @@ public class TagRecommendationClient {
         // 응답에서 "tags" 필드를 추출하여 반환 (null일 경우 빈 리스트 반환)
         return Optional.ofNullable(response)
                 .map(r -> r.getOrDefault("tags", List.of()))
+                .map(List::copyOf)
                 .orElse(List.of());
     }
+
+    private double hitRatio() {
+        double saved = hitCounter.count() + coalescedCounter.count();
+        double total = saved + missCounter.count();
+        return total == 0 ? 0 : saved / total;
+    }
+
+    private static List<String> await(CompletableFuture<List<String>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 캐시 키 : contents의 SHA-256 해시 (긴 본문을 그대로 키로 보관하지 않기 위함)
+    private static String contentsHash(String contents) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(contents.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -0,0 +1,60 @@
+package com.likelion.basecode.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    @Bean
+    // 게시물 태그 추천 백그라운드 작업용 스레드 풀 (큐가 가득 차면 RejectedExecutionException 발생)
+    public ThreadPoolTaskExecutor postTaggingExecutor(
+            @Value("${post.tagging.pool-size:4}") int poolSize,
+            @Value("${post.tagging.queue-capacity:500}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("post-tagging-");
+        // 종료 시 대기 중인 태그 작업을 가능한 한 마무리
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    @Bean
+    // 게시물 저장/수정 시 이미지 업로드와 태그 추천을 동시에 실행하는 스레드 풀
+    // 풀과 큐가 모두 차면 요청 스레드에서 직접 실행 (순차 실행으로 느려질 뿐 실패하지 않음)
+    public ThreadPoolTaskExecutor postSaveExecutor(
+            @Value("${post.save.pool-size:16}") int poolSize,
+            @Value("${post.save.queue-capacity:64}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("post-save-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    @Bean
+    // 게시물 태그 변경 후 추천 도서를 다시 계산하는 스레드 풀
+    // 큐가 가득 차면 작업을 버림 (추천 도서는 이미 무효화되었으므로 다음 조회 요청에서 직접 계산됨)
+    public ThreadPoolTaskExecutor bookRecommendationExecutor(
+            @Value("${book.recommendation.pool-size:2}") int poolSize,
+            @Value("${book.recommendation.queue-capacity:1000}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("book-recommendation-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        return executor;
+    }
+}
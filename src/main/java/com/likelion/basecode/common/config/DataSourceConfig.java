@@ -0,0 +1,98 @@
+package com.likelion.basecode.common.config;
+
+import com.likelion.basecode.common.datasource.PrimaryStickinessFilter;
+import com.likelion.basecode.common.datasource.ReadWriteRoutingDataSource;
+import com.likelion.basecode.common.datasource.ReplicaAwareHibernateJpaDialect;
+import com.likelion.basecode.common.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "url")
+// replica가 설정된 경우에만 primary/replica 커넥션 풀을 따로 만들고 읽기 전용 트랜잭션을 replica로 라우팅
+// (설정하지 않으면 spring.datasource 하나로 모든 SQL 실행)
+public class DataSourceConfig {
+
+    @Bean
+    // 쓰기(와 replica를 사용할 수 없을 때의 읽기)용 커넥션 풀 : spring.datasource, spring.datasource.hikari 설정 사용
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    // 읽기 전용 커넥션 풀 (계정을 지정하지 않으면 primary 계정 사용)
+    public HikariDataSource replicaDataSource(
+            @Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${spring.datasource.hikari.connection-timeout:3000}") long connectionTimeoutMs
+    ) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setConnectionTimeout(connectionTimeoutMs);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${datasource.replica.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+            @Value("${datasource.replica.lag-column:Seconds_Behind_Source}") String lagColumn,
+            @Value("${datasource.replica.max-lag-ms:2000}") long maxLagMs,
+            MeterRegistry meterRegistry
+    ) {
+        return new ReplicaLagMonitor(replicaDataSource, lagQuery, lagColumn, maxLagMs, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    // JPA/JdbcTemplate이 사용하는 DataSource
+    // 트랜잭션 시작 시점이 아니라 첫 SQL 실행 시점에 커넥션의 읽기 전용 플래그로 primary/replica 커넥션을 선택
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor,
+            MeterRegistry meterRegistry
+    ) {
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor, meterRegistry);
+    }
+
+    @Bean
+    // replica를 사용하는 동안 읽기 전용 트랜잭션은 2차 캐시에 저장하지 않도록 JPA 트랜잭션 시작 처리 교체
+    public static BeanPostProcessor replicaAwareJpaDialectPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean entityManagerFactoryBean) {
+                    entityManagerFactoryBean.setJpaDialect(new ReplicaAwareHibernateJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public PrimaryStickinessFilter primaryStickinessFilter(@Value("${datasource.replica.sticky-ms:5000}") long stickyMs) {
+        return new PrimaryStickinessFilter(stickyMs);
+    }
+}
@@ -0,0 +1,154 @@
+package com.likelion.basecode.common.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRateLimiterMetrics;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import java.time.Duration;
+
+// 외부 API별 서킷 브레이커/벌크헤드/호출 속도 제한
+// - 서킷 브레이커 : 실패(5xx, 연결/응답 타임아웃)나 느린 호출 비율이 높으면 일정 시간 호출을 막고 바로 실패, 이후 일부 호출만 허용해 회복 여부 확인
+// - 벌크헤드 : API별 동시 호출 수를 제한해 한 API가 느려져도 요청 스레드 전체가 묶이지 않도록 함
+// - 호출 속도 제한 : 초당 호출 수를 제한 (도서 API 전체 페이지 동기화가 공공 API 호출 제한을 넘지 않도록)
+// - 지표 : resilience4j.circuitbreaker.* / resilience4j.bulkhead.* / resilience4j.ratelimiter.* (name 태그 = API 이름),
+//          상태 전이 횟수 resilience4j.circuitbreaker.transitions (from/to 태그)
+@Configuration
+public class ResilienceConfig {
+
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry(MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.ofDefaults();
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        registry.getEventPublisher()
+                .onEntryAdded(event -> countStateTransitions(event.getAddedEntry(), meterRegistry));
+        return registry;
+    }
+
+    @Bean
+    public BulkheadRegistry bulkheadRegistry(MeterRegistry meterRegistry) {
+        BulkheadRegistry registry = BulkheadRegistry.ofDefaults();
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public RateLimiterRegistry rateLimiterRegistry(MeterRegistry meterRegistry) {
+        RateLimiterRegistry registry = RateLimiterRegistry.ofDefaults();
+        TaggedRateLimiterMetrics.ofRateLimiterRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public CircuitBreaker tagApiCircuitBreaker(
+            CircuitBreakerRegistry registry,
+            @Value("${resilience.tag-api.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${resilience.tag-api.slow-call-duration-ms:3000}") long slowCallDurationMs,
+            @Value("${resilience.tag-api.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${resilience.tag-api.wait-in-open-ms:30000}") long waitInOpenMs,
+            @Value("${resilience.tag-api.half-open-calls:3}") int halfOpenCalls
+    ) {
+        return registry.circuitBreaker("tag-api", circuitBreakerConfig(
+                failureRateThreshold, slowCallDurationMs, slidingWindowSize, waitInOpenMs, halfOpenCalls));
+    }
+
+    @Bean
+    public Bulkhead tagApiBulkhead(
+            BulkheadRegistry registry,
+            @Value("${resilience.tag-api.max-concurrent-calls:10}") int maxConcurrentCalls,
+            @Value("${resilience.tag-api.max-wait-ms:0}") long maxWaitMs
+    ) {
+        return registry.bulkhead("tag-api", bulkheadConfig(maxConcurrentCalls, maxWaitMs));
+    }
+
+    @Bean
+    public CircuitBreaker bookApiCircuitBreaker(
+            CircuitBreakerRegistry registry,
+            @Value("${resilience.book-api.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${resilience.book-api.slow-call-duration-ms:8000}") long slowCallDurationMs,
+            @Value("${resilience.book-api.sliding-window-size:10}") int slidingWindowSize,
+            @Value("${resilience.book-api.wait-in-open-ms:60000}") long waitInOpenMs,
+            @Value("${resilience.book-api.half-open-calls:1}") int halfOpenCalls
+    ) {
+        return registry.circuitBreaker("book-api", circuitBreakerConfig(
+                failureRateThreshold, slowCallDurationMs, slidingWindowSize, waitInOpenMs, halfOpenCalls));
+    }
+
+    @Bean
+    public Bulkhead bookApiBulkhead(
+            BulkheadRegistry registry,
+            @Value("${resilience.book-api.max-concurrent-calls:4}") int maxConcurrentCalls,
+            @Value("${resilience.book-api.max-wait-ms:0}") long maxWaitMs
+    ) {
+        return registry.bulkhead("book-api", bulkheadConfig(maxConcurrentCalls, maxWaitMs));
+    }
+
+    @Bean
+    public RateLimiter bookApiRateLimiter(
+            RateLimiterRegistry registry,
+            @Value("${resilience.book-api.requests-per-second:5}") int requestsPerSecond,
+            @Value("${resilience.book-api.rate-limit-wait-ms:30000}") long maxWaitMs
+    ) {
+        return registry.rateLimiter("book-api", rateLimiterConfig(requestsPerSecond, maxWaitMs));
+    }
+
+    static CircuitBreakerConfig circuitBreakerConfig(float failureRateThreshold, long slowCallDurationMs,
+                                                     int slidingWindowSize, long waitInOpenMs, int halfOpenCalls) {
+        return CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(slidingWindowSize)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallDurationMs))
+                .waitDurationInOpenState(Duration.ofMillis(waitInOpenMs))
+                .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                .automaticTransitionFromOpenToHalfOpenEnabled(false)
+                // 서버 장애(5xx)와 연결/응답 타임아웃만 실패로 집계 (4xx는 요청 문제이므로 제외)
+                .recordExceptions(HttpServerErrorException.class, ResourceAccessException.class)
+                // 벌크헤드에서 거절된 호출은 외부 API의 상태와 무관하므로 집계하지 않음
+                .ignoreExceptions(BulkheadFullException.class)
+                .build();
+    }
+
+    static BulkheadConfig bulkheadConfig(int maxConcurrentCalls, long maxWaitMs) {
+        return BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ofMillis(maxWaitMs))
+                .build();
+    }
+
+    static RateLimiterConfig rateLimiterConfig(int requestsPerSecond, long maxWaitMs) {
+        return RateLimiterConfig.custom()
+                .limitForPeriod(requestsPerSecond)
+                .limitRefreshPeriod(Duration.ofSeconds(1))
+                .timeoutDuration(Duration.ofMillis(maxWaitMs))
+                .build();
+    }
+
+    private static void countStateTransitions(CircuitBreaker circuitBreaker, MeterRegistry meterRegistry) {
+        circuitBreaker.getEventPublisher().onStateTransition(event -> Counter
+                .builder("resilience4j.circuitbreaker.transitions")
+                .description("서킷 브레이커 상태 전이 횟수")
+                .tag("name", circuitBreaker.getName())
+                .tag("from", event.getStateTransition().getFromState().name())
+                .tag("to", event.getStateTransition().getToState().name())
+                .register(meterRegistry)
+                .increment());
+    }
+}
@@ -1,15 +1,104 @@
 package com.likelion.basecode.common.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+// 외부 API별 HTTP 클라이언트
+// - 목적지마다 별도의 커넥션 풀(HTTP/1.1 keep-alive)을 사용해 한 API가 느려져도 다른 API의 커넥션을 빼앗지 않음
+// - 연결/풀 대기/응답 타임아웃을 클라이언트별로 지정해 외부 API가 멈춰도 요청 스레드가 무한정 묶이지 않음
+// - 커넥션 풀 지표 : httpcomponents.httpclient.pool.* (httpclient 태그 = 클라이언트 이름)
+// - 응답 시간 지표 : http.client.requests (RestTemplateBuilder로 만든 RestTemplate에 자동 적용, client.name 태그 = 호스트)
 @Configuration
 public class RestTemplateConfig {
 
     @Bean
-    // RestTemplate 빈을 생성하여 스프링 컨테이너에 등록
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    // 공공 도서 API용 HTTP 클라이언트
+    public CloseableHttpClient bookApiHttpClient(
+            @Value("${http-client.book-api.max-connections:10}") int maxConnections,
+            @Value("${http-client.book-api.connect-timeout-ms:1000}") long connectTimeoutMs,
+            @Value("${http-client.book-api.connection-request-timeout-ms:500}") long connectionRequestTimeoutMs,
+            @Value("${http-client.book-api.read-timeout-ms:10000}") long readTimeoutMs,
+            @Value("${http-client.book-api.keep-alive-ms:30000}") long keepAliveMs,
+            MeterRegistry meterRegistry
+    ) {
+        return pooledHttpClient("book-api", maxConnections, connectTimeoutMs, connectionRequestTimeoutMs,
+                readTimeoutMs, keepAliveMs, meterRegistry);
+    }
+
+    @Bean
+    // 태그 추천 API용 HTTP 클라이언트
+    public CloseableHttpClient tagApiHttpClient(
+            @Value("${http-client.tag-api.max-connections:20}") int maxConnections,
+            @Value("${http-client.tag-api.connect-timeout-ms:1000}") long connectTimeoutMs,
+            @Value("${http-client.tag-api.connection-request-timeout-ms:500}") long connectionRequestTimeoutMs,
+            @Value("${http-client.tag-api.read-timeout-ms:5000}") long readTimeoutMs,
+            @Value("${http-client.tag-api.keep-alive-ms:30000}") long keepAliveMs,
+            MeterRegistry meterRegistry
+    ) {
+        return pooledHttpClient("tag-api", maxConnections, connectTimeoutMs, connectionRequestTimeoutMs,
+                readTimeoutMs, keepAliveMs, meterRegistry);
+    }
+
+    @Bean
+    public RestTemplate bookApiRestTemplate(RestTemplateBuilder restTemplateBuilder,
+                                            @Qualifier("bookApiHttpClient") CloseableHttpClient httpClient) {
+        return restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate tagApiRestTemplate(RestTemplateBuilder restTemplateBuilder,
+                                           @Qualifier("tagApiHttpClient") CloseableHttpClient httpClient) {
+        return restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+    }
+
+    // 커넥션 풀과 타임아웃이 설정된 HTTP 클라이언트 생성
+    // - connectTimeout : TCP 연결 수립 대기
+    // - connectionRequestTimeout : 풀의 커넥션이 모두 사용 중일 때 빈 커넥션 대기 (초과 시 바로 실패)
+    // - readTimeout : 응답 데이터 대기
+    static CloseableHttpClient pooledHttpClient(String name, int maxConnections, long connectTimeoutMs,
+                                                long connectionRequestTimeoutMs, long readTimeoutMs,
+                                                long keepAliveMs, MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections) // 클라이언트마다 목적지가 하나이므로 전체 = 호스트별 한도
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        // 서버가 먼저 끊었을 수 있는 유휴 커넥션은 재사용 전에 확인
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                // 서버가 keep-alive 시간을 알려주지 않아도 keepAliveMs 동안 커넥션 재사용
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofMilliseconds(keepAliveMs))
+                .evictIdleConnections(TimeValue.ofMilliseconds(keepAliveMs))
+                .evictExpiredConnections()
+                .build();
     }
 }
@@ -2,11 +2,13 @@ package com.likelion.basecode.common.config;
 
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 
 @Configuration
 public class S3Config {
@@ -20,16 +22,27 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // S3 호환 저장소(MinIO, LocalStack 등)를 사용할 때만 지정 (비어 있으면 AWS S3)
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
     @Bean
     // Amazon S3 Bean 생성
     public AmazonS3 amazonS3() {
         // IAM 인증 정보 설정
         BasicAWSCredentials credentials = new BasicAWSCredentials(accessKey, secretKey);
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(credentials)); // 인증 정보 주입
+
+        if (StringUtils.hasText(endpoint)) {
+            // S3 호환 저장소는 버킷을 경로로 지정
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+                    .withPathStyleAccessEnabled(true);
+        } else {
+            builder.withRegion(region); // 리전 설정
+        }
         // AmazonS3 클라이언트를 빌드하여 반환
-        return AmazonS3ClientBuilder.standard()
-                .withRegion(region) // 리전 설정
-                .withCredentials(new AWSStaticCredentialsProvider(credentials)) // 인증 정보 주입
-                .build();
+        return builder.build();
     }
 }
 
@@ -0,0 +1,10 @@
+package com.likelion.basecode.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+// @Scheduled 기반 백그라운드 작업(도서 카탈로그 동기화 등) 활성화
+public class SchedulingConfig {
+}
@@ -0,0 +1,76 @@
+package com.likelion.basecode.common.datasource;
+
+import java.util.function.Supplier;
+
+// 현재 스레드(요청)의 primary/replica 라우팅 상태
+// - 요청 : PrimaryStickinessFilter가 시작 시 bind, 끝나면 clear
+//          쓰기 트랜잭션을 시작한 뒤의 읽기는 같은 요청 안에서도 primary 사용 (read-your-writes)
+// - 백그라운드 작업 : 방금 커밋된 데이터를 읽어야 한다면 onPrimary로 감싸서 실행
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<State> STATE = new ThreadLocal<>();
+
+    private DataSourceRouting() {
+    }
+
+    // 요청 시작 시 호출 (onFirstWrite : 요청 안에서 처음 쓰기 트랜잭션을 시작할 때 한 번 실행)
+    public static void bind(boolean primaryOnly, Runnable onFirstWrite) {
+        STATE.set(new State(primaryOnly, onFirstWrite));
+    }
+
+    public static void clear() {
+        STATE.remove();
+    }
+
+    // action 안의 읽기 전용 트랜잭션도 primary 사용
+    public static <T> T onPrimary(Supplier<T> action) {
+        State previous = STATE.get();
+        STATE.set(new State(true, previous == null ? null : previous.onFirstWrite));
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                STATE.remove();
+            } else {
+                STATE.set(previous);
+            }
+        }
+    }
+
+    public static void onPrimary(Runnable action) {
+        onPrimary(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    static boolean isPrimaryOnly() {
+        State state = STATE.get();
+        return state != null && state.primaryOnly;
+    }
+
+    // 쓰기 트랜잭션 시작 : 이후 읽기는 primary로 보내고, 처음 한 번만 onFirstWrite 실행
+    static void markWrite() {
+        State state = STATE.get();
+        if (state == null) {
+            return;
+        }
+        state.primaryOnly = true;
+        Runnable onFirstWrite = state.onFirstWrite;
+        state.onFirstWrite = null;
+        if (onFirstWrite != null) {
+            onFirstWrite.run();
+        }
+    }
+
+    private static final class State {
+
+        private boolean primaryOnly;
+        private Runnable onFirstWrite;
+
+        private State(boolean primaryOnly, Runnable onFirstWrite) {
+            this.primaryOnly = primaryOnly;
+            this.onFirstWrite = onFirstWrite;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.likelion.basecode.common.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+
+// 쓰기 직후 같은 클라이언트의 읽기를 primary로 보내는 필터 (replica 복제 지연 동안 방금 쓴 데이터가 보이지 않는 문제 방지)
+// 요청 안에서 쓰기 트랜잭션을 시작하면 stickyMs 뒤의 만료 시각을 쿠키로 내려주고, 쿠키가 유효한 동안의 요청은 읽기도 primary 사용
+public class PrimaryStickinessFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "db-primary-until";
+
+    private final long stickyMs;
+
+    public PrimaryStickinessFilter(long stickyMs) {
+        this.stickyMs = stickyMs;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        DataSourceRouting.bind(isSticky(request), () -> stick(response));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DataSourceRouting.clear();
+        }
+    }
+
+    private boolean isSticky(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return System.currentTimeMillis() < Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    // 응답을 쓰기 전에 쓰기 트랜잭션이 시작되므로 대부분 헤더를 추가할 수 있음
+    private void stick(HttpServletResponse response) {
+        if (response.isCommitted()) {
+            return;
+        }
+        Cookie cookie = new Cookie(COOKIE_NAME, String.valueOf(System.currentTimeMillis() + stickyMs));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.ceil(stickyMs / 1000.0));
+        response.addCookie(cookie);
+    }
+}
@@ -0,0 +1,106 @@
+package com.likelion.basecode.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Map;
+
+// 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 replica, 그 외에는 primary 커넥션을 사용하는 DataSource
+// - 트랜잭션 관리자가 커넥션에 설정한 읽기 전용 플래그(Connection#setReadOnly)로 판단 (LazyConnectionDataSourceProxy의 readOnlyDataSource)
+//   실제 커넥션은 첫 SQL 실행 시 선택하므로 JpaTransactionManager(HibernateJpaDialect)가 트랜잭션 시작 시 커넥션을 준비해도 라우팅됨
+// - replica 지연이 기준을 넘었거나 확인할 수 없으면(ReplicaLagMonitor) 읽기도 primary 사용
+// - 쓰기 직후의 읽기는 primary 사용 (DataSourceRouting)
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy {
+
+    enum Target {
+        PRIMARY, REPLICA
+    }
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica,
+                                      ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry) {
+        setTargetDataSource(new WriteDataSource(primary, routedCounter(meterRegistry, Target.PRIMARY, "write")));
+        setReadOnlyDataSource(new ReadDataSource(primary, replica, replicaLagMonitor, meterRegistry));
+        afterPropertiesSet();
+    }
+
+    // 라우팅 결과별 커넥션 수 : datasource.routing (target, reason 태그)
+    private static Counter routedCounter(MeterRegistry meterRegistry, Target target, String reason) {
+        return Counter.builder("datasource.routing")
+                .tag("target", target.name().toLowerCase(Locale.ROOT))
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    // 읽기 전용이 아닌 커넥션 : 항상 primary, 트랜잭션 안이라면 이후 읽기도 primary로 보내도록 표시
+    private static class WriteDataSource extends DelegatingDataSource {
+
+        private final Counter writeCounter;
+
+        private WriteDataSource(DataSource primary, Counter writeCounter) {
+            super(primary);
+            this.writeCounter = writeCounter;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            markWrite();
+            return super.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            markWrite();
+            return super.getConnection(username, password);
+        }
+
+        private void markWrite() {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                DataSourceRouting.markWrite();
+            }
+            writeCounter.increment();
+        }
+    }
+
+    // 읽기 전용 커넥션 : 쓰기 이후이거나 replica를 사용할 수 없으면 primary, 그 외에는 replica
+    private static class ReadDataSource extends AbstractRoutingDataSource {
+
+        private final ReplicaLagMonitor replicaLagMonitor;
+
+        private final Counter readCounter;
+        private final Counter stickyCounter;
+        private final Counter lagCounter;
+
+        private ReadDataSource(DataSource primary, DataSource replica,
+                               ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry) {
+            this.replicaLagMonitor = replicaLagMonitor;
+            setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+            setDefaultTargetDataSource(primary);
+            afterPropertiesSet();
+
+            this.readCounter = routedCounter(meterRegistry, Target.REPLICA, "read");
+            this.stickyCounter = routedCounter(meterRegistry, Target.PRIMARY, "sticky");
+            this.lagCounter = routedCounter(meterRegistry, Target.PRIMARY, "lag");
+        }
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            if (DataSourceRouting.isPrimaryOnly()) {
+                stickyCounter.increment();
+                return Target.PRIMARY;
+            }
+            if (!replicaLagMonitor.isReplicaUsable()) {
+                lagCounter.increment();
+                return Target.PRIMARY;
+            }
+            readCounter.increment();
+            return Target.REPLICA;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.likelion.basecode.common.datasource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import java.sql.SQLException;
+
+// replica에서 읽을 수 있는 읽기 전용 트랜잭션은 2차 캐시를 조회만 하고 저장하지 않음 (CacheMode.GET)
+// 복제 지연 중인 replica에서 읽은 이전 값이 캐시에 들어가면 다른 요청도 만료(10분)까지 이전 값을 보게 되므로,
+// 2차 캐시는 primary에서 읽은 값(쓰기 트랜잭션, 쓰기 이후나 onPrimary 안의 읽기)으로만 채움
+public class ReplicaAwareHibernateJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException, TransactionException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly() || DataSourceRouting.isPrimaryOnly()) {
+            return transactionData;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previousCacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+        return new ReplicaTransactionData(transactionData, session, previousCacheMode);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReplicaTransactionData replicaTransactionData) {
+            replicaTransactionData.session().setCacheMode(replicaTransactionData.previousCacheMode());
+            super.cleanupTransaction(replicaTransactionData.delegate());
+            return;
+        }
+        super.cleanupTransaction(transactionData);
+    }
+
+    private record ReplicaTransactionData(Object delegate, Session session, CacheMode previousCacheMode) {
+    }
+}
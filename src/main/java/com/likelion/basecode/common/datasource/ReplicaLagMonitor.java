@@ -0,0 +1,63 @@
+package com.likelion.basecode.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import javax.sql.DataSource;
+
+// replica 복제 지연을 주기적으로 확인해 읽기를 replica로 보내도 되는지 판단
+// lagQuery 결과 첫 행의 lagColumn(초) 값이 maxLagMs 이하일 때만 사용 가능 (조회 실패, 행 없음, NULL이면 사용하지 않음)
+// MySQL : SHOW REPLICA STATUS 의 Seconds_Behind_Source (복제가 멈추면 NULL)
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final long maxLagMs;
+
+    // 첫 확인 전에는 primary 사용
+    private volatile boolean replicaUsable = false;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, String lagColumn, long maxLagMs,
+                             MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.maxLagMs = maxLagMs;
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-ms:1000}")
+    public void check() {
+        Long lag;
+        try {
+            lag = replicaJdbcTemplate.query(lagQuery, rs -> {
+                if (!rs.next()) {
+                    return null;
+                }
+                long seconds = rs.getLong(lagColumn);
+                return rs.wasNull() ? null : seconds;
+            });
+        } catch (RuntimeException e) {
+            log.warn("replica 지연 확인 실패: {}", e.getMessage());
+            lag = null;
+        }
+
+        lagSeconds = lag == null ? Double.NaN : lag;
+        boolean usable = lag != null && lag * 1000 <= maxLagMs;
+        if (usable != replicaUsable) {
+            log.info("replica {} (lag = {}s, max = {}ms)", usable ? "사용" : "사용 중지, 읽기도 primary로", lag, maxLagMs);
+        }
+        replicaUsable = usable;
+    }
+}
@@ -14,6 +14,10 @@ public enum ErrorCode {
     POST_NOT_FOUND_EXCEPTION(HttpStatus.NOT_FOUND, "해당 게시글이 없습니다. postId = ", "NOT_FOUND_404"),
     TAG_RECOMMENDATION_EMPTY(HttpStatus.BAD_REQUEST, "추천 가능한 태그가 없습니다.", "TAG_RECOMMENDATION_EMPTY_400"),
     BOOK_API_NO_RESULT(HttpStatus.NOT_FOUND, "해당 키워드로 검색된 도서가 없습니다.", "BOOK_API_NO_RESULT_400"),
+    INVALID_IMAGE_URL(HttpStatus.BAD_REQUEST, "업로드되지 않은 이미지 URL입니다. imageUrl = ", "INVALID_IMAGE_URL_400"),
+    UNSUPPORTED_MEMBER_FILE_FORMAT(HttpStatus.BAD_REQUEST, "지원하지 않는 사용자 파일 형식입니다. format = ", "UNSUPPORTED_MEMBER_FILE_FORMAT_400"),
+    INVALID_MEMBER_FILE_HEADER(HttpStatus.BAD_REQUEST, "CSV 헤더에 필요한 열이 없습니다. 필요한 열 = ", "INVALID_MEMBER_FILE_HEADER_400"),
+    INVALID_BOOK_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 도서 목록 cursor입니다. cursor = ", "INVALID_BOOK_CURSOR_400"),
 
     // 500
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "내부 서버 에러가 발생했습니다", "INTERNAL_SERVER_ERROR_500"),
@@ -21,7 +25,14 @@ public enum ErrorCode {
     BOOK_API_BODY_MALFORMED(HttpStatus.INTERNAL_SERVER_ERROR, "도서 API의 body 항목이 잘못되었습니다.", "BOOK_API_500"),
     BOOK_API_ITEMS_MALFORMED(HttpStatus.INTERNAL_SERVER_ERROR, "도서 API의 items 항목이 잘못되었습니다.", "BOOK_API_500"),
     BOOK_API_ITEM_MALFORMED(HttpStatus.INTERNAL_SERVER_ERROR, "도서 API의 item 항목이 잘못되었습니다.", "BOOK_API_500"),
-    S3_UPLOAD_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "S3 파일 업로드에 실패했습니다.", "S3_UPLOAD_FAIL_500");
+    S3_UPLOAD_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "S3 파일 업로드에 실패했습니다.", "S3_UPLOAD_FAIL_500"),
+
+    // 503
+    TAG_API_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "태그 추천 API를 일시적으로 사용할 수 없습니다.", "TAG_API_UNAVAILABLE_503"),
+    BOOK_API_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "도서 API를 일시적으로 사용할 수 없습니다.", "BOOK_API_UNAVAILABLE_503"),
+    TAG_API_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "태그 추천 API 호출이 많아 잠시 후 다시 시도해주세요.", "TAG_API_BUSY_503"),
+    BOOK_API_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "도서 API 호출이 많아 잠시 후 다시 시도해주세요.", "BOOK_API_BUSY_503"),
+    S3_UPLOAD_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "동시 업로드가 많아 잠시 후 다시 시도해주세요.", "S3_UPLOAD_BUSY_503");
 
     private final HttpStatus httpStatus;
     private final String message;
@@ -15,10 +15,13 @@ public enum SuccessCode {
     POST_UPDATE_SUCCESS(HttpStatus.OK, "글이 성공적으로 수정되었습니다."),
     MEMBER_DELETE_SUCCESS(HttpStatus.OK, "사용자가 성공적으로 삭제되었습니다."),
     POST_DELETE_SUCCESS(HttpStatus.OK, "글이 성공적으로 삭제되었습니다."),
+    MEMBER_IMPORT_SUCCESS(HttpStatus.OK, "사용자 일괄 저장이 완료되었습니다."),
 
     // 201
     MEMBER_SAVE_SUCCESS(HttpStatus.CREATED, "사용자가 성공적으로 생성되었습니다."),
-    POST_SAVE_SUCCESS(HttpStatus.CREATED, "글이 성공적으로 생성되었습니다.");
+    POST_SAVE_SUCCESS(HttpStatus.CREATED, "글이 성공적으로 생성되었습니다."),
+    IMAGE_UPLOAD_SUCCESS(HttpStatus.CREATED, "이미지가 성공적으로 업로드되었습니다."),
+    PRESIGNED_URL_CREATE_SUCCESS(HttpStatus.CREATED, "이미지 업로드 URL이 성공적으로 발급되었습니다.");
 
     private final HttpStatus httpStatus;
     private final String message;
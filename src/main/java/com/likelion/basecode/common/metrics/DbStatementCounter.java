@@ -0,0 +1,41 @@
+package com.likelion.basecode.common.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+import java.util.Map;
+
+// Hibernate가 실행하는 SQL 문장 수를 현재 스레드(요청) 단위로 집계
+// SQL은 그대로 두고 카운터만 증가시키므로 운영 환경에서도 켜 둘 수 있음 (JdbcTemplate으로 직접 실행한 SQL은 집계되지 않음)
+@Component
+public class DbStatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    // 현재 스레드에서 집계 시작
+    public void start() {
+        COUNT.set(new int[1]);
+    }
+
+    // 집계를 끝내고 start 이후 실행된 SQL 문장 수 반환
+    public int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+}
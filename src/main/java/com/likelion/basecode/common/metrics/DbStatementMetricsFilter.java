@@ -0,0 +1,48 @@
+package com.likelion.basecode.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import java.io.IOException;
+
+// 요청 하나가 요청 스레드에서 실행한 SQL 문장 수 지표 : http.server.requests.db.statements (method, uri 태그)
+// uri는 http.server.requests와 같이 URL 패턴(/post/{postId})을 사용해 태그 값의 수를 제한
+@Component
+public class DbStatementMetricsFilter extends OncePerRequestFilter {
+
+    private final DbStatementCounter dbStatementCounter;
+    private final MeterRegistry meterRegistry;
+
+    public DbStatementMetricsFilter(DbStatementCounter dbStatementCounter, MeterRegistry meterRegistry) {
+        this.dbStatementCounter = dbStatementCounter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        dbStatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = dbStatementCounter.stop();
+            DistributionSummary.builder("http.server.requests.db.statements")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uriPattern(request))
+                    .register(meterRegistry)
+                    .record(statements);
+        }
+    }
+
+    private static String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+}
@@ -0,0 +1,12 @@
+package com.likelion.basecode.common.s3;
+
+import java.time.Instant;
+
+// presigned PUT URL 발급 결과
+public record PresignedUpload(
+        String key,         // S3 객체 key
+        String uploadUrl,   // 클라이언트가 파일을 PUT 할 URL (expiresAt 까지 유효)
+        String imageUrl,    // 업로드 완료 후 게시물에 등록할 객체 URL
+        Instant expiresAt
+) {
+}
@@ -1,43 +1,275 @@
 package com.likelion.basecode.common.s3;
 
+import com.amazonaws.HttpMethod;
+import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.util.SdkHttpUtils;
 import com.likelion.basecode.common.error.ErrorCode;
 import com.likelion.basecode.common.exception.BusinessException;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
+// S3 업로드
+// - 요청 본문 스트림을 고정 크기 버퍼(part) 단위로 읽어 바로 S3로 전송 (파일 전체를 메모리/임시 파일에 두지 않음)
+// - part 크기보다 큰 파일은 multipart 업로드, 작은 파일은 한 번의 putObject
+// - 동시 업로드 수를 제한하고, part 버퍼는 동시 업로드 수만큼만 만들어 재사용
+// - 클라이언트가 서버를 거치지 않고 직접 업로드할 수 있도록 presigned PUT URL 발급
+// - 업로드 결과별 소요 시간 지표 : external.api.calls (client = s3, outcome = success | failure | rejected)
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class S3Uploader {
 
+    // S3 multipart 업로드의 최소 part 크기 (마지막 part 제외)
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
     private final AmazonS3 amazonS3;
+    private final String bucket;
+    private final int partSize;
+    private final long acquireTimeoutMs;
+    private final long presignedUrlExpiryMs;
+
+    // 동시 업로드 수 제한
+    private final Semaphore uploadPermits;
+    // 반납된 part 버퍼 (최대 동시 업로드 수만큼만 생성됨)
+    private final ConcurrentLinkedQueue<byte[]> buffers = new ConcurrentLinkedQueue<>();
+
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Timer rejectedTimer;
+
+    public S3Uploader(
+            AmazonS3 amazonS3,
+            @Value("${cloud.aws.s3.bucket}") String bucket,
+            @Value("${cloud.aws.s3.upload.part-size-bytes:8388608}") int partSize,
+            @Value("${cloud.aws.s3.upload.max-concurrent:8}") int maxConcurrentUploads,
+            @Value("${cloud.aws.s3.upload.acquire-timeout-ms:3000}") long acquireTimeoutMs,
+            @Value("${cloud.aws.s3.upload.presigned-url-expiry-ms:600000}") long presignedUrlExpiryMs,
+            MeterRegistry meterRegistry
+    ) {
+        if (partSize < MIN_PART_SIZE) {
+            throw new IllegalArgumentException("part 크기는 5MB 이상이어야 합니다. partSize = " + partSize);
+        }
+        this.amazonS3 = amazonS3;
+        this.bucket = bucket;
+        this.partSize = partSize;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.presignedUrlExpiryMs = presignedUrlExpiryMs;
+        this.uploadPermits = new Semaphore(maxConcurrentUploads, true);
 
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
+        this.successTimer = uploadTimer("success", meterRegistry);
+        this.failureTimer = uploadTimer("failure", meterRegistry);
+        this.rejectedTimer = uploadTimer("rejected", meterRegistry);
+    }
 
     // MultipartFile을 S3에 업로드 한 후, 해당 파일의 접근 URL을 반환
     public String upload(MultipartFile file, String dirName) {
-        // S3에 저장될 파일 경로 (디렉토리/랜덤UUID_원본파일명)
-        String fileName = dirName + "/" + UUID.randomUUID() + "_" + file.getOriginalFilename();
-        ObjectMetadata metadata = new ObjectMetadata();
+        try (InputStream inputStream = file.getInputStream()) {
+            return upload(inputStream, file.getContentType(), file.getOriginalFilename(), dirName);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.S3_UPLOAD_FAIL, ErrorCode.S3_UPLOAD_FAIL.getMessage());
+        }
+    }
 
+    // 입력 스트림을 part 단위로 읽으면서 S3에 업로드 한 후, 해당 파일의 접근 URL을 반환 (스트림은 호출한 쪽에서 닫음)
+    public String upload(InputStream inputStream, String contentType, String originalFileName, String dirName) {
+        return upload(createKey(dirName, originalFileName), inputStream, contentType);
+    }
+
+    // 미리 정한 key로 업로드 (업로드 전에 key를 기록해야 하는 경우)
+    public String upload(String key, InputStream inputStream, String contentType) {
+        Timer.Sample sample = Timer.start();
+        Timer timer = failureTimer;
         try {
-            // 메타데이터 설정
-            metadata.setContentLength(file.getSize()); // 파일 크기 설정
-            metadata.setContentType(file.getContentType()); // MIME 타입
+            String url = uploadWithPermit(key, inputStream, contentType);
+            timer = successTimer;
+            return url;
+        } catch (BusinessException e) {
+            if (e.getErrorCode() == ErrorCode.S3_UPLOAD_BUSY) {
+                timer = rejectedTimer;
+            }
+            throw e;
+        } finally {
+            sample.stop(timer);
+        }
+    }
 
-            // S3에 파일 업로드
-            amazonS3.putObject(bucket, fileName, file.getInputStream(), metadata);
-        } catch (IOException e) {
+    // 동시 업로드 허가를 받은 뒤 업로드
+    private String uploadWithPermit(String key, InputStream inputStream, String contentType) {
+        acquirePermit();
+        byte[] buffer = borrowBuffer();
+        try {
+            int length = readFully(inputStream, buffer);
+            if (length < buffer.length) {
+                // part 하나에 다 들어가는 파일은 한 번에 업로드
+                putObject(key, buffer, length, contentType);
+            } else {
+                multipartUpload(key, inputStream, buffer, contentType);
+            }
+        } catch (IOException | SdkClientException e) {
+            log.warn("S3 업로드 실패 (key = {}): {}", key, e.getMessage());
             throw new BusinessException(ErrorCode.S3_UPLOAD_FAIL, ErrorCode.S3_UPLOAD_FAIL.getMessage());
+        } finally {
+            buffers.offer(buffer);
+            uploadPermits.release();
         }
 
         // 업로드 완료된 파일의 URL 반환
-        return amazonS3.getUrl(bucket, fileName).toString();
+        return urlOf(key);
+    }
+
+    // 클라이언트가 직접 업로드할 presigned PUT URL 발급 (서버는 파일 내용을 받지 않음)
+    public PresignedUpload createPresignedUpload(String originalFileName, String contentType, String dirName) {
+        String key = createKey(dirName, originalFileName);
+        Instant expiresAt = Instant.now().plusMillis(presignedUrlExpiryMs);
+
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                .withExpiration(Date.from(expiresAt))
+                .withContentType(contentType);
+
+        return new PresignedUpload(
+                key,
+                amazonS3.generatePresignedUrl(request).toString(),
+                urlOf(key),
+                expiresAt
+        );
+    }
+
+    // 이 버킷의 dirName 아래에 실제로 업로드된 객체의 URL인지 확인 (presigned URL로 업로드한 이미지 검증용)
+    public boolean isUploaded(String url, String dirName) {
+        return keyOf(url)
+                .filter(key -> key.startsWith(dirName + "/"))
+                .filter(key -> amazonS3.doesObjectExist(bucket, key))
+                .isPresent();
+    }
+
+    // 객체 삭제 (없는 객체를 삭제해도 성공)
+    public void delete(String key) {
+        amazonS3.deleteObject(bucket, key);
+    }
+
+    public String urlOf(String key) {
+        return amazonS3.getUrl(bucket, key).toString();
+    }
+
+    // S3에 저장될 파일 경로 (디렉토리/랜덤UUID_원본파일명)
+    public String createKey(String dirName, String originalFileName) {
+        return dirName + "/" + UUID.randomUUID() + "_" + originalFileName;
+    }
+
+    // 이 버킷의 객체 URL에서 key 추출 (다른 버킷/호스트의 URL이라면 empty)
+    public Optional<String> keyOf(String url) {
+        String prefix = amazonS3.getUrl(bucket, "").toString();
+        if (url == null || !url.startsWith(prefix) || url.length() == prefix.length()) {
+            return Optional.empty();
+        }
+        // getUrl은 key를 URL 인코딩하므로 원래 key로 되돌림 (한글 파일명 등)
+        return Optional.of(SdkHttpUtils.urlDecode(url.substring(prefix.length())));
+    }
+
+    private void putObject(String key, byte[] buffer, int length, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(length); // 파일 크기 설정
+        metadata.setContentType(contentType); // MIME 타입
+        amazonS3.putObject(bucket, key, new ByteArrayInputStream(buffer, 0, length), metadata);
+    }
+
+    // 첫 part가 이미 buffer에 채워진 상태에서 나머지를 part 단위로 읽으며 업로드
+    private void multipartUpload(String key, InputStream inputStream, byte[] buffer, String contentType)
+            throws IOException {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        String uploadId = amazonS3.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucket, key, metadata)).getUploadId();
+
+        try {
+            List<PartETag> partETags = new ArrayList<>();
+            int length = buffer.length;
+            int partNumber = 1;
+            while (length > 0) {
+                UploadPartRequest request = new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber++)
+                        .withInputStream(new ByteArrayInputStream(buffer, 0, length))
+                        .withPartSize(length);
+                partETags.add(amazonS3.uploadPart(request).getPartETag());
+
+                length = readFully(inputStream, buffer);
+            }
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+        } catch (IOException | RuntimeException e) {
+            // 완료되지 않은 multipart 업로드는 part가 계속 과금되므로 중단 처리
+            abortQuietly(key, uploadId);
+            throw e;
+        }
+    }
+
+    private void abortQuietly(String key, String uploadId) {
+        try {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+        } catch (SdkClientException e) {
+            log.warn("S3 multipart 업로드 중단 실패 (key = {}, uploadId = {}): {}", key, uploadId, e.getMessage());
+        }
+    }
+
+    private static Timer uploadTimer(String outcome, MeterRegistry meterRegistry) {
+        return Timer.builder("external.api.calls")
+                .tag("client", "s3")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private void acquirePermit() {
+        try {
+            if (uploadPermits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new BusinessException(ErrorCode.S3_UPLOAD_BUSY, ErrorCode.S3_UPLOAD_BUSY.getMessage());
+    }
+
+    // 업로드 허가를 받은 스레드만 호출하므로 버퍼 수는 최대 동시 업로드 수를 넘지 않음
+    private byte[] borrowBuffer() {
+        byte[] buffer = buffers.poll();
+        return buffer != null ? buffer : new byte[partSize];
+    }
+
+    // buffer가 가득 차거나 스트림이 끝날 때까지 읽고, 읽은 바이트 수 반환
+    private static int readFully(InputStream inputStream, byte[] buffer) throws IOException {
+        int total = 0;
+        while (total < buffer.length) {
+            int read = inputStream.read(buffer, total, buffer.length - total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
     }
 }
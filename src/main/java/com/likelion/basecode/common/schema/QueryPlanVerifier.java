@@ -0,0 +1,103 @@
+package com.likelion.basecode.common.schema;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import java.sql.ResultSetMetaData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 주요 조회 조건(접근 경로)이 마이그레이션(db/migration)에서 만든 인덱스를 사용하는지 기동 시 EXPLAIN으로 확인 (사용하지 않으면 경고 로그)
+// 확인하는 SQL은 repository 쿼리와 같은 테이블/조건/정렬로 직접 작성한 것으로, Hibernate가 만든 SQL 자체를 확인하지는 않음
+// (repository 쿼리의 조건이나 조인을 바꾸면 여기의 SQL도 함께 맞춰야 함)
+// 실행 계획 형식은 DB마다 다르므로 계획에 기대한 인덱스 이름이 포함되는지만 확인
+// - MySQL : key, Extra 열 (고유 인덱스로 찾은 행이 없으면 key 대신 "no matching row in const table" 로 표시)
+// - H2    : 계획 문자열의 /* 인덱스 이름: 조건 */
+@Slf4j
+@Component
+public class QueryPlanVerifier {
+
+    // 이름 : 접근 경로 (이 경로를 사용하는 repository 쿼리), 조회 조건 값은 계획에 영향이 없는 임의 값
+    static final List<PlannedQuery> PLANNED_QUERIES = List.of(
+            new PlannedQuery("post by member_id keyset (PostRepository.findPostIdsByMember)",
+                    "SELECT p.post_id FROM post p WHERE p.member_id = 1 AND p.post_id < 1000 " +
+                            "ORDER BY p.post_id DESC LIMIT 11",
+                    "idx_post_member_id"),
+            new PlannedQuery("post by image_url (PostRepository.existsByImageUrl)",
+                    "SELECT p.post_id FROM post p WHERE p.image_url = 'https://bucket/key' LIMIT 1",
+                    "idx_post_image_url"),
+            new PlannedQuery("tag by name IN (TagRepository.findByNameIn)",
+                    "SELECT t.tag_id, t.name FROM tag t WHERE t.name IN ('tag1', 'tag2')",
+                    "uk_tag_name"),
+            new PlannedQuery("post_tag by post_id IN + tag join (PostTagRepository.findTagNamesByPostIdIn)",
+                    "SELECT pt.post_id, t.name FROM post_tag pt JOIN tag t ON t.tag_id = pt.tag_id " +
+                            "WHERE pt.post_id IN (1, 2, 3) ORDER BY pt.post_tag_id",
+                    "uk_post_tag_post_id_tag_id"),
+            new PlannedQuery("post_tag by tag_id (PostTagRepository.findPostIdsByTagId)",
+                    "SELECT DISTINCT pt.post_id FROM post_tag pt WHERE pt.tag_id = 1",
+                    "idx_post_tag_tag_id")
+    );
+    private static final String CONST_TABLE_MISS = "no matching row in const table";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public QueryPlanVerifier(JdbcTemplate jdbcTemplate,
+                             @Value("${schema.query-plan-check.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        List<String> mismatches = findQueriesNotUsingIndex();
+        if (mismatches.isEmpty()) {
+            log.info("주요 조회 조건 {}개가 모두 계획한 인덱스를 사용함", PLANNED_QUERIES.size());
+        }
+    }
+
+    // 기대한 인덱스를 사용하지 않는(또는 EXPLAIN에 실패한) 접근 경로 이름 목록
+    public List<String> findQueriesNotUsingIndex() {
+        List<String> mismatches = new ArrayList<>();
+        for (PlannedQuery query : PLANNED_QUERIES) {
+            try {
+                String plan = explain(query.sql());
+                if (!plan.contains(query.index()) && !plan.contains(CONST_TABLE_MISS)) {
+                    log.warn("{} 쿼리가 {} 인덱스를 사용하지 않음. 실행 계획: {}", query.name(), query.index(), plan);
+                    mismatches.add(query.name());
+                }
+            } catch (DataAccessException e) {
+                log.warn("{} 쿼리 실행 계획 확인 실패: {}", query.name(), e.getMessage());
+                mismatches.add(query.name());
+            }
+        }
+        return mismatches;
+    }
+
+    // 계획의 모든 행/열을 소문자 문자열로 (MySQL의 possible_keys는 실제 사용 여부와 무관하므로 제외)
+    private String explain(String sql) {
+        return jdbcTemplate.query("EXPLAIN " + sql, resultSet -> {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            StringBuilder plan = new StringBuilder();
+            while (resultSet.next()) {
+                for (int column = 1; column <= metaData.getColumnCount(); column++) {
+                    if (!"possible_keys".equalsIgnoreCase(metaData.getColumnLabel(column))) {
+                        plan.append(resultSet.getString(column)).append(' ');
+                    }
+                }
+            }
+            return plan.toString().toLowerCase(Locale.ROOT);
+        });
+    }
+
+    record PlannedQuery(String name, String sql, String index) {
+    }
+}
@@ -2,14 +2,25 @@ package com.likelion.basecode.member.api;
 
 import com.likelion.basecode.common.error.SuccessCode;
 import com.likelion.basecode.common.template.ApiResTemplate;
+import com.likelion.basecode.member.api.dto.response.MemberImportResponseDto;
 import com.likelion.basecode.member.api.dto.response.MemberInfoResponseDto;
 import com.likelion.basecode.member.api.dto.response.MemberListResponseDto;
 import com.likelion.basecode.member.api.dto.request.MemberSaveRequestDto;
 import com.likelion.basecode.member.api.dto.request.MemberUpdateRequestDto;
+import com.likelion.basecode.member.application.MemberBulkService;
+import com.likelion.basecode.member.application.MemberFileFormat;
 import com.likelion.basecode.member.application.MemberService;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 
 
 @RestController
@@ -18,15 +29,40 @@ import org.springframework.web.bind.annotation.*;
 public class MemberController {
 
     private final MemberService memberService;
+    private final MemberBulkService memberBulkService;
 
     // 사용자 저장
     @PostMapping("/save")
     @ResponseStatus(HttpStatus.CREATED)
-    public ApiResTemplate<String> memberSave(@RequestBody MemberSaveRequestDto memberSaveRequestDto) {
+    public ApiResTemplate<String> memberSave(@RequestBody @Valid MemberSaveRequestDto memberSaveRequestDto) {
         memberService.memberSave(memberSaveRequestDto);
         return ApiResTemplate.successWithNoContent(SuccessCode.MEMBER_SAVE_SUCCESS);
     }
 
+    // 사용자 일괄 저장 (Content-Type : application/x-ndjson 또는 text/csv)
+    // 본문을 스트리밍으로 읽으면서 올바른 행만 저장하고, 저장하지 못한 행은 줄 번호와 사유를 응답
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public ApiResTemplate<MemberImportResponseDto> memberImport(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                                InputStream body) throws IOException {
+        MemberImportResponseDto memberImportResponseDto =
+                memberBulkService.importMembers(MemberFileFormat.fromContentType(contentType), body);
+        return ApiResTemplate.successResponse(SuccessCode.MEMBER_IMPORT_SUCCESS, memberImportResponseDto);
+    }
+
+    // 사용자 전체 내보내기 (format : ndjson 또는 csv, DB에서 읽는 대로 응답 본문에 기록)
+    @GetMapping("/export")
+    public void memberExport(@RequestParam(value = "format", defaultValue = "ndjson") String format,
+                             HttpServletResponse response) throws IOException {
+        MemberFileFormat fileFormat = MemberFileFormat.fromExtension(format);
+        response.setContentType(fileFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("members." + fileFormat.getExtension())
+                .build()
+                .toString());
+        memberBulkService.exportMembers(fileFormat, response.getOutputStream());
+    }
+
     // 사용자 전체 조회
     @GetMapping("/all")
     public ApiResTemplate<MemberListResponseDto> memberFindAll() {
@@ -1,10 +1,15 @@
 package com.likelion.basecode.member.api.dto.request;
 
 import com.likelion.basecode.member.domain.Part;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
 
 public record MemberSaveRequestDto(
         String name,
-        int age,
+        // 생략하면 0으로 저장되지 않도록 래퍼 타입으로 받아 검증
+        @NotNull(message = "나이를 필수로 입력해야 합니다.")
+        @PositiveOrZero
+        Integer age,
         Part part
 ) {
 }
@@ -0,0 +1,8 @@
+package com.likelion.basecode.member.api.dto.response;
+
+// 저장하지 못한 행의 줄 번호(1부터 시작)와 사유
+public record MemberImportFailureDto(
+        long line,
+        String reason
+) {
+}
@@ -0,0 +1,11 @@
+package com.likelion.basecode.member.api.dto.response;
+
+import java.util.List;
+
+// 일괄 저장 결과 (failures는 앞에서부터 최대 member.import.max-failures 개까지만 포함)
+public record MemberImportResponseDto(
+        int importedCount,
+        int failedCount,
+        List<MemberImportFailureDto> failures
+) {
+}
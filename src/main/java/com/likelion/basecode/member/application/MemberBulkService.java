@@ -0,0 +1,311 @@
+package com.likelion.basecode.member.application;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.basecode.common.error.ErrorCode;
+import com.likelion.basecode.common.exception.BusinessException;
+import com.likelion.basecode.member.api.dto.request.MemberSaveRequestDto;
+import com.likelion.basecode.member.api.dto.response.MemberImportFailureDto;
+import com.likelion.basecode.member.api.dto.response.MemberImportResponseDto;
+import com.likelion.basecode.member.domain.Part;
+import com.likelion.basecode.member.domain.repository.MemberRepository;
+import com.likelion.basecode.member.domain.repository.MemberRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+// 사용자 일괄 저장/내보내기
+// - 저장 : 요청 본문(NDJSON/CSV)을 한 줄씩 읽어 검증하고, 올바른 행만 batchSize 개씩 모아 JDBC 배치 INSERT
+//          배치마다 별도 트랜잭션으로 커밋하고, 배치 저장이 실패하면 그 배치만 행 단위로 다시 저장해 실패한 행만 보고
+// - 내보내기 : DB 커서로 fetchSize 행씩 읽으면서 응답 스트림에 바로 기록 (사용자 수와 관계없이 메모리 사용량 일정)
+@Slf4j
+@Service
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class MemberBulkService {
+
+    private static final List<String> CSV_COLUMNS = List.of("name", "age", "part");
+    // member.name 컬럼 길이 (VARCHAR(255))
+    private static final int MAX_NAME_LENGTH = 255;
+
+    private final MemberRepository memberRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    // 한 번의 JDBC 배치(트랜잭션)로 저장하는 사용자 수
+    private final int batchSize;
+    // 응답에 포함할 최대 실패 행 수 (실패 행 수 자체는 모두 집계)
+    private final int maxFailures;
+    // 내보내기 시 DB에서 한 번에 읽어오는 행 수
+    private final int fetchSize;
+
+    public MemberBulkService(
+            MemberRepository memberRepository,
+            ObjectMapper objectMapper,
+            TransactionTemplate transactionTemplate,
+            @Value("${member.import.batch-size:1000}") int batchSize,
+            @Value("${member.import.max-failures:100}") int maxFailures,
+            @Value("${member.export.fetch-size:1000}") int fetchSize
+    ) {
+        this.memberRepository = memberRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxFailures = maxFailures;
+        this.fetchSize = fetchSize;
+    }
+
+    // 사용자 일괄 저장 (본문 전체를 메모리에 올리지 않고 batchSize 개씩 저장)
+    public MemberImportResponseDto importMembers(MemberFileFormat format, InputStream body) throws IOException {
+        ImportResult result = new ImportResult(maxFailures);
+        List<MemberSaveRequestDto> batch = new ArrayList<>(batchSize);
+        List<Long> batchLines = new ArrayList<>(batchSize);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        Function<String, MemberSaveRequestDto> parser = null;
+        long lineNo = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            if (line.isBlank()) {
+                continue;
+            }
+            // CSV는 비어 있지 않은 첫 줄을 헤더로 사용
+            if (parser == null) {
+                parser = format == MemberFileFormat.CSV ? csvParser(line) : this::parseJson;
+                if (format == MemberFileFormat.CSV) {
+                    continue;
+                }
+            }
+
+            try {
+                batch.add(validate(parser.apply(line)));
+                batchLines.add(lineNo);
+            } catch (IllegalArgumentException e) {
+                result.fail(lineNo, e.getMessage());
+                continue;
+            }
+            if (batch.size() == batchSize) {
+                insertBatch(batch, batchLines, result);
+            }
+        }
+        insertBatch(batch, batchLines, result);
+        return result.toResponse();
+    }
+
+    // 전체 사용자 내보내기 (NDJSON은 한 줄에 사용자 하나, CSV는 헤더 + 사용자 행)
+    public void exportMembers(MemberFileFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        // 행마다 generator 버퍼만 writer로 비우고, 응답 스트림으로는 writer 버퍼가 찰 때만 전송
+        JsonGenerator generator = objectMapper.createGenerator(writer)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        generator.setRootValueSeparator(null);
+
+        if (format == MemberFileFormat.CSV) {
+            writer.write("memberId,name,age,part\n");
+        }
+        try {
+            memberRepository.forEachMember(fetchSize, row -> {
+                try {
+                    if (format == MemberFileFormat.CSV) {
+                        writeCsv(writer, row);
+                    } else {
+                        generator.writeObject(row);
+                        generator.flush();
+                        writer.write('\n');
+                    }
+                } catch (IOException e) {
+                    // 클라이언트 연결이 끊기면 커서 조회도 중단
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    // 모은 행을 하나의 트랜잭션으로 저장 (실패하면 해당 배치를 행 단위로 다시 저장)
+    private void insertBatch(List<MemberSaveRequestDto> batch, List<Long> batchLines, ImportResult result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> memberRepository.insertAll(batch));
+            result.imported += batch.size();
+        } catch (DataAccessException e) {
+            log.warn("사용자 일괄 저장 배치 실패, 행 단위로 다시 저장 (lines {}-{}): {}",
+                    batchLines.get(0), batchLines.get(batchLines.size() - 1), e.getMessage());
+            insertEach(batch, batchLines, result);
+        }
+        batch.clear();
+        batchLines.clear();
+    }
+
+    // 배치의 각 행을 별도 트랜잭션으로 저장 (실패한 행만 실패로 기록)
+    private void insertEach(List<MemberSaveRequestDto> batch, List<Long> batchLines, ImportResult result) {
+        for (int i = 0; i < batch.size(); i++) {
+            List<MemberSaveRequestDto> row = List.of(batch.get(i));
+            try {
+                transactionTemplate.executeWithoutResult(status -> memberRepository.insertAll(row));
+                result.imported++;
+            } catch (DataAccessException e) {
+                result.fail(batchLines.get(i), "저장 실패: " + e.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    private MemberSaveRequestDto parseJson(String line) {
+        try {
+            MemberSaveRequestDto member = objectMapper.readValue(line, MemberSaveRequestDto.class);
+            if (member == null) {
+                throw new IllegalArgumentException("JSON 객체가 아닙니다.");
+            }
+            return member;
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON 형식이 잘못되었습니다: " + e.getOriginalMessage());
+        }
+    }
+
+    // 헤더에서 name, age, part 열의 위치를 찾아 행 파서 생성
+    private Function<String, MemberSaveRequestDto> csvParser(String header) {
+        List<String> columns = splitCsv(header).stream()
+                .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                .toList();
+        if (!columns.containsAll(CSV_COLUMNS)) {
+            throw new BusinessException(ErrorCode.INVALID_MEMBER_FILE_HEADER,
+                    ErrorCode.INVALID_MEMBER_FILE_HEADER.getMessage() + CSV_COLUMNS);
+        }
+        int nameIndex = columns.indexOf("name");
+        int ageIndex = columns.indexOf("age");
+        int partIndex = columns.indexOf("part");
+
+        return line -> {
+            List<String> fields = splitCsv(line);
+            if (fields.size() != columns.size()) {
+                throw new IllegalArgumentException("열 개수가 헤더와 다릅니다: " + fields.size());
+            }
+            String age = fields.get(ageIndex).trim();
+            String part = fields.get(partIndex).trim();
+            try {
+                return new MemberSaveRequestDto(
+                        fields.get(nameIndex).trim(),
+                        age.isEmpty() ? null : Integer.parseInt(age),
+                        part.isEmpty() ? null : Part.valueOf(part.toUpperCase(Locale.ROOT)));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("age가 숫자가 아닙니다: " + age);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("알 수 없는 part입니다: " + part);
+            }
+        };
+    }
+
+    private static MemberSaveRequestDto validate(MemberSaveRequestDto member) {
+        if (member.name() == null || member.name().isBlank()) {
+            throw new IllegalArgumentException("name이 비어 있습니다.");
+        }
+        if (member.name().length() > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("name은 " + MAX_NAME_LENGTH + "자를 넘을 수 없습니다.");
+        }
+        if (member.age() == null) {
+            throw new IllegalArgumentException("age가 비어 있습니다.");
+        }
+        if (member.age() < 0) {
+            throw new IllegalArgumentException("age는 0 이상이어야 합니다: " + member.age());
+        }
+        return member;
+    }
+
+    // 한 줄을 CSV 필드로 분리 (큰따옴표로 감싼 필드 안의 쉼표와 "" 이스케이프 지원, 여러 줄 필드는 미지원)
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static void writeCsv(Writer writer, MemberRow row) throws IOException {
+        writer.write(String.valueOf(row.memberId()));
+        writer.write(',');
+        writer.write(escapeCsv(row.name()));
+        writer.write(',');
+        writer.write(String.valueOf(row.age()));
+        writer.write(',');
+        writer.write(row.part() == null ? "" : row.part().name());
+        writer.write('\n');
+    }
+
+    // 쉼표, 큰따옴표, 줄바꿈이 포함된 값만 큰따옴표로 감쌈
+    private static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+
+    // 저장/실패 행 수 집계
+    private static class ImportResult {
+
+        private final int maxFailures;
+        private final List<MemberImportFailureDto> failures = new ArrayList<>();
+        private int imported;
+        private int failed;
+
+        private ImportResult(int maxFailures) {
+            this.maxFailures = maxFailures;
+        }
+
+        private void fail(long line, String reason) {
+            failed++;
+            if (failures.size() < maxFailures) {
+                failures.add(new MemberImportFailureDto(line, reason));
+            }
+        }
+
+        private MemberImportResponseDto toResponse() {
+            return new MemberImportResponseDto(imported, failed, List.copyOf(failures));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.likelion.basecode.member.application;
+
+import com.likelion.basecode.common.error.ErrorCode;
+import com.likelion.basecode.common.exception.BusinessException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+import java.util.Arrays;
+
+// 사용자 일괄 저장/내보내기 파일 형식
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public enum MemberFileFormat {
+
+    // 한 줄에 사용자 하나 : {"name":"홍길동","age":20,"part":"BACKEND"}
+    NDJSON(MediaType.APPLICATION_NDJSON_VALUE, "ndjson"),
+    // 첫 줄은 헤더 (name, age, part 열 순서는 자유, 그 외 열은 무시)
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    // 요청 본문의 Content-Type으로 형식 결정 (charset 등 파라미터는 무시)
+    public static MemberFileFormat fromContentType(String contentType) {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        return Arrays.stream(values())
+                .filter(format -> MediaType.parseMediaType(format.contentType).equalsTypeAndSubtype(mediaType))
+                .findFirst()
+                .orElseThrow(() -> unsupported(contentType));
+    }
+
+    // 내보내기 요청의 format 파라미터(ndjson, csv)로 형식 결정
+    public static MemberFileFormat fromExtension(String extension) {
+        return Arrays.stream(values())
+                .filter(format -> format.extension.equalsIgnoreCase(extension))
+                .findFirst()
+                .orElseThrow(() -> unsupported(extension));
+    }
+
+    private static BusinessException unsupported(String format) {
+        return new BusinessException(ErrorCode.UNSUPPORTED_MEMBER_FILE_FORMAT,
+                ErrorCode.UNSUPPORTED_MEMBER_FILE_FORMAT.getMessage() + format);
+    }
+}
@@ -30,12 +30,9 @@ public class MemberService {
         memberRepository.save(member);
     }
 
-    // 사용자 모두 조회
+    // 사용자 모두 조회 (엔티티 대신 응답에 필요한 컬럼만 조회)
     public MemberListResponseDto memberFindAll() {
-        List<Member> members = memberRepository.findAll();
-        List<MemberInfoResponseDto> memberInfoResponseDtoList = members.stream()
-                .map(MemberInfoResponseDto::from)
-                .toList();
+        List<MemberInfoResponseDto> memberInfoResponseDtoList = memberRepository.findAllMemberInfos();
         return MemberListResponseDto.from(memberInfoResponseDtoList);
     }
 
@@ -1,7 +1,15 @@
 package com.likelion.basecode.member.domain.repository;
 
+import com.likelion.basecode.member.api.dto.response.MemberInfoResponseDto;
 import com.likelion.basecode.member.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import java.util.List;
 
-public interface MemberRepository extends JpaRepository<Member, Long> {
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom {
+
+    // 응답에 필요한 컬럼만 조회해 바로 응답 DTO로 생성 (엔티티/영속성 컨텍스트 관리 없음)
+    @Query("SELECT new com.likelion.basecode.member.api.dto.response.MemberInfoResponseDto(m.name, m.age, m.part) " +
+            "FROM Member m")
+    List<MemberInfoResponseDto> findAllMemberInfos();
 }
@@ -0,0 +1,14 @@
+package com.likelion.basecode.member.domain.repository;
+
+import com.likelion.basecode.member.api.dto.request.MemberSaveRequestDto;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface MemberRepositoryCustom {
+
+    // 사용자들을 JDBC 배치 INSERT 한 번으로 저장
+    void insertAll(List<MemberSaveRequestDto> members);
+
+    // 전체 사용자를 member_id 순서로 fetchSize 행씩 읽으면서 한 행씩 전달 (결과 전체를 메모리에 올리지 않음)
+    void forEachMember(int fetchSize, Consumer<MemberRow> consumer);
+}
@@ -0,0 +1,56 @@
+package com.likelion.basecode.member.domain.repository;
+
+import com.likelion.basecode.member.api.dto.request.MemberSaveRequestDto;
+import com.likelion.basecode.member.domain.Part;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
+
+    private static final String MYSQL = "MySQL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<MemberSaveRequestDto> members) {
+        // IDENTITY 전략이라 JPA save()는 행마다 INSERT 후 생성된 id를 읽어야 하므로 JDBC 배치로 직접 전송
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO member (name, age, part) VALUES (?, ?, ?)",
+                members,
+                members.size(),
+                (statement, member) -> {
+                    statement.setString(1, member.name());
+                    statement.setInt(2, member.age());
+                    statement.setString(3, member.part() == null ? null : member.part().name());
+                });
+    }
+
+    @Override
+    public void forEachMember(int fetchSize, Consumer<MemberRow> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT member_id, name, age, part FROM member ORDER BY member_id",
+                    ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            // MySQL(Connector/J)은 URL에 useCursorFetch=true가 없으면 fetchSize를 무시하고 전체 결과를 한 번에 받으므로
+            // Integer.MIN_VALUE로 행 단위 스트리밍 (그 외 DB는 fetchSize 만큼씩 조회)
+            statement.setFetchSize(MYSQL.equals(connection.getMetaData().getDatabaseProductName())
+                    ? Integer.MIN_VALUE
+                    : fetchSize);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> {
+            String part = resultSet.getString("part");
+            consumer.accept(new MemberRow(
+                    resultSet.getLong("member_id"),
+                    resultSet.getString("name"),
+                    resultSet.getInt("age"),
+                    part == null ? null : Part.valueOf(part)));
+        });
+    }
+}
@@ -0,0 +1,12 @@
+package com.likelion.basecode.member.domain.repository;
+
+import com.likelion.basecode.member.domain.Part;
+
+// 사용자 내보내기 전용 프로젝션 (엔티티/영속성 컨텍스트 관리 없이 한 행씩 읽음)
+public record MemberRow(
+        Long memberId,
+        String name,
+        int age,
+        Part part
+) {
+}
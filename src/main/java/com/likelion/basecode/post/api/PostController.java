@@ -1,5 +1,6 @@
 package com.likelion.basecode.post.api;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.likelion.basecode.common.error.SuccessCode;
 import com.likelion.basecode.common.template.ApiResTemplate;
 import com.likelion.basecode.post.api.dto.response.PostInfoResponseDto;
@@ -9,8 +10,11 @@ import com.likelion.basecode.post.api.dto.request.PostUpdateRequestDto;
 import com.likelion.basecode.post.application.PostService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -18,6 +22,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class PostController {
 
     private final PostService postService;
+    private final ObjectMapper objectMapper;
 
     // 게시물 저장
     @PostMapping("/save")
@@ -27,13 +32,44 @@ public class PostController {
         return ApiResTemplate.successResponse(SuccessCode.POST_SAVE_SUCCESS, postListResponseDto);
     }
 
-    // 사용자 id를 기준으로 해당 사용자가 작성한 게시글 목록 조회
+    // 사용자 id를 기준으로 해당 사용자가 작성한 게시글 목록 조회 (cursor : 이전 페이지 응답의 nextCursor)
     @GetMapping("/{memberId}")
-    public ApiResTemplate<PostListResponseDto> myPostFindAll(@PathVariable("memberId") Long memberId) {
-        PostListResponseDto postListResponseDto = postService.postFindMember(memberId);
+    public ApiResTemplate<PostListResponseDto> myPostFindAll(@PathVariable("memberId") Long memberId,
+                                                             @RequestParam(value = "cursor", required = false) Long cursor,
+                                                             @RequestParam(value = "size", defaultValue = "20") int size) {
+        PostListResponseDto postListResponseDto = postService.postFindMember(memberId, cursor, size);
         return ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, postListResponseDto);
     }
 
+    // 사용자가 작성한 전체 게시글을 한 줄에 하나씩 JSON으로 스트리밍 (NDJSON)
+    // 페이지 단위로 읽은 즉시 응답에 쓰기 때문에 게시글 수와 관계없이 메모리 사용량이 일정
+    @GetMapping(value = "/{memberId}/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> myPostExport(@PathVariable("memberId") Long memberId) {
+        // 첫 페이지는 요청 스레드에서 조회 (존재하지 않는 사용자라면 스트리밍 시작 전에 404 응답)
+        PostListResponseDto firstPage = postService.postFindMember(memberId, null, PostService.MAX_PAGE_SIZE);
+
+        StreamingResponseBody body = outputStream -> {
+            PostListResponseDto page = firstPage;
+            while (true) {
+                for (PostInfoResponseDto post : page.posts()) {
+                    outputStream.write(objectMapper.writeValueAsBytes(post));
+                    outputStream.write('\n');
+                }
+                outputStream.flush();
+
+                if (!page.hasNext()) {
+                    break;
+                }
+                // 사용자 존재 여부는 첫 페이지에서 확인했으므로 다음 페이지부터는 게시글만 조회
+                page = postService.postFindMemberPage(memberId, page.nextCursor(), PostService.MAX_PAGE_SIZE);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     // 게시물 id를 기준으로 사용자가 작성한 게시물 수정
     @PatchMapping("/{postId}")
     public ApiResTemplate<PostInfoResponseDto> postUpdate(@PathVariable("postId") Long postId,
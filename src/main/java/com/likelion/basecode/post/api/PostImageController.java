@@ -0,0 +1,39 @@
+package com.likelion.basecode.post.api;
+
+import com.likelion.basecode.common.error.SuccessCode;
+import com.likelion.basecode.common.template.ApiResTemplate;
+import com.likelion.basecode.post.api.dto.request.PresignedUrlRequestDto;
+import com.likelion.basecode.post.api.dto.response.ImageUploadResponseDto;
+import com.likelion.basecode.post.api.dto.response.PresignedUrlResponseDto;
+import com.likelion.basecode.post.application.PostImageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import java.io.IOException;
+
+// 게시물 이미지 업로드
+// 업로드한 이미지의 imageUrl을 게시물 저장 요청에 담아 보내면 파일 없이 게시물에 등록됨
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/post/image")
+public class PostImageController {
+
+    private final PostImageService postImageService;
+
+    // 요청 본문(이미지 바이트)을 버퍼링하지 않고 그대로 S3로 스트리밍
+    @PutMapping(consumes = "image/*")
+    public ApiResTemplate<ImageUploadResponseDto> imageUpload(@RequestParam("fileName") String fileName,
+                                                              HttpServletRequest request) throws IOException {
+        String imageUrl = postImageService.upload(request.getInputStream(), request.getContentType(), fileName);
+        return ApiResTemplate.successResponse(SuccessCode.IMAGE_UPLOAD_SUCCESS, new ImageUploadResponseDto(imageUrl));
+    }
+
+    // 클라이언트가 S3에 직접 업로드할 presigned URL 발급 (서버는 파일 내용을 받지 않음)
+    @PostMapping("/presigned")
+    public ApiResTemplate<PresignedUrlResponseDto> presignedUrlCreate(@RequestBody @Valid PresignedUrlRequestDto presignedUrlRequestDto) {
+        PresignedUrlResponseDto presignedUrlResponseDto = PresignedUrlResponseDto.from(
+                postImageService.createPresignedUpload(presignedUrlRequestDto.fileName(), presignedUrlRequestDto.contentType()));
+        return ApiResTemplate.successResponse(SuccessCode.PRESIGNED_URL_CREATE_SUCCESS, presignedUrlResponseDto);
+    }
+}
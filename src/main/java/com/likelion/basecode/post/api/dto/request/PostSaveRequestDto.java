@@ -12,6 +12,8 @@ public record  PostSaveRequestDto(
         String title,
         @NotBlank(message = "내용을 필수로 입력해야 합니다.")
         @Size(min = 3, max = 100)
-        String contents
+        String contents,
+        // presigned URL 또는 /post/image 로 미리 업로드한 이미지 URL (이미지 파일을 함께 보내는 경우 생략)
+        String imageUrl
 ) {
 }
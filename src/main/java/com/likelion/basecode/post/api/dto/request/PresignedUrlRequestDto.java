@@ -0,0 +1,13 @@
+package com.likelion.basecode.post.api.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+public record PresignedUrlRequestDto(
+        @NotBlank(message = "파일 이름을 필수로 입력해야 합니다.")
+        String fileName,
+        @NotBlank(message = "파일 형식을 필수로 입력해야 합니다.")
+        @Pattern(regexp = "image/.+", message = "이미지 파일만 업로드할 수 있습니다.")
+        String contentType
+) {
+}
@@ -0,0 +1,6 @@
+package com.likelion.basecode.post.api.dto.response;
+
+public record ImageUploadResponseDto(
+        String imageUrl
+) {
+}
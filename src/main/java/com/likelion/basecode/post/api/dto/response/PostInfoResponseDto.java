@@ -1,19 +1,24 @@
 package com.likelion.basecode.post.api.dto.response;
 
 import com.likelion.basecode.post.domain.Post;
+import com.likelion.basecode.post.domain.TagStatus;
+import com.likelion.basecode.post.domain.repository.PostSummary;
 import lombok.Builder;
 import java.util.List;
 
 @Builder
 public record PostInfoResponseDto(
+        Long postId,
         String title,
         String contents,
         String writer,
         List<String> tags,
+        TagStatus tagStatus,
         String imageUrl
 ) {
     public static PostInfoResponseDto from(Post post) {
         return PostInfoResponseDto.builder()
+                .postId(post.getPostId())
                 .title(post.getTitle())
                 .contents(post.getContents())
                 .writer(post.getMember().getName())
@@ -22,7 +27,20 @@ public record PostInfoResponseDto(
                                 .map(postTag -> postTag.getTag().getName())
                                 .toList()
                 )
+                .tagStatus(post.getTagStatus())
                 .imageUrl(post.getImageUrl())
                 .build();
     }
+
+    public static PostInfoResponseDto of(PostSummary summary, List<String> tags) {
+        return PostInfoResponseDto.builder()
+                .postId(summary.postId())
+                .title(summary.title())
+                .contents(summary.contents())
+                .writer(summary.writer())
+                .tags(tags)
+                .tagStatus(summary.tagStatus())
+                .imageUrl(summary.imageUrl())
+                .build();
+    }
 }
@@ -5,11 +5,15 @@ import java.util.List;
 
 @Builder
 public record PostListResponseDto(
-        List<PostInfoResponseDto> posts
+        List<PostInfoResponseDto> posts,
+        Long nextCursor,    // 다음 페이지 조회 시 cursor로 전달할 값 (마지막 페이지라면 null)
+        boolean hasNext
 ) {
-    public static PostListResponseDto from(List<PostInfoResponseDto> posts) {
+    public static PostListResponseDto from(List<PostInfoResponseDto> posts, Long nextCursor) {
         return PostListResponseDto.builder()
                 .posts(posts)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
                 .build();
     }
 }
@@ -0,0 +1,20 @@
+package com.likelion.basecode.post.api.dto.response;
+
+import com.likelion.basecode.common.s3.PresignedUpload;
+import lombok.Builder;
+import java.time.Instant;
+
+@Builder
+public record PresignedUrlResponseDto(
+        String uploadUrl,
+        String imageUrl,
+        Instant expiresAt
+) {
+    public static PresignedUrlResponseDto from(PresignedUpload presignedUpload) {
+        return PresignedUrlResponseDto.builder()
+                .uploadUrl(presignedUpload.uploadUrl())
+                .imageUrl(presignedUpload.imageUrl())
+                .expiresAt(presignedUpload.expiresAt())
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.likelion.basecode.post.application;
+
+import com.likelion.basecode.common.s3.S3Uploader;
+import com.likelion.basecode.post.domain.PendingImageUpload;
+import com.likelion.basecode.post.domain.repository.PendingImageUploadRepository;
+import com.likelion.basecode.post.domain.repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+// 게시물이 커밋되지 않은 업로드 이미지 정리
+// 대기 목록에 grace 기간 이상 남아 있는 이미지 중 어떤 게시물에서도 사용하지 않는 객체를 S3에서 삭제
+@Slf4j
+@Component
+public class PostImageReconciler {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final PendingImageUploadRepository pendingImageUploadRepository;
+    private final PostRepository postRepository;
+    private final S3Uploader s3Uploader;
+    // 업로드 직후 아직 게시물을 저장 중이거나 presigned URL로 업로드 중인 이미지를 지우지 않도록 기다리는 시간
+    private final Duration orphanGrace;
+
+    private final Counter deletedCounter;
+
+    public PostImageReconciler(
+            PendingImageUploadRepository pendingImageUploadRepository,
+            PostRepository postRepository,
+            S3Uploader s3Uploader,
+            MeterRegistry meterRegistry,
+            @Value("${post.image.orphan-grace-ms:3600000}") long orphanGraceMs
+    ) {
+        this.pendingImageUploadRepository = pendingImageUploadRepository;
+        this.postRepository = postRepository;
+        this.s3Uploader = s3Uploader;
+        this.orphanGrace = Duration.ofMillis(orphanGraceMs);
+        this.deletedCounter = Counter.builder("post.image.orphans.deleted")
+                .description("게시물이 커밋되지 않아 삭제한 업로드 이미지 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${post.image.reconcile-interval-ms:600000}",
+            fixedDelayString = "${post.image.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        Instant before = Instant.now().minus(orphanGrace);
+        List<PendingImageUpload> pendingUploads;
+        do {
+            pendingUploads = pendingImageUploadRepository.findCreatedBefore(before, PageRequest.of(0, BATCH_SIZE));
+            for (PendingImageUpload pendingUpload : pendingUploads) {
+                if (!reconcile(pendingUpload)) {
+                    // S3 장애 등으로 실패하면 다음 주기에 다시 시도
+                    return;
+                }
+            }
+        } while (pendingUploads.size() == BATCH_SIZE);
+    }
+
+    private boolean reconcile(PendingImageUpload pendingUpload) {
+        String key = pendingUpload.getObjectKey();
+        try {
+            // 대기 목록 제거 전에 게시물 트랜잭션이 커밋된 경우라면 객체는 남겨 둠
+            if (!postRepository.existsByImageUrl(s3Uploader.urlOf(key))) {
+                s3Uploader.delete(key);
+                deletedCounter.increment();
+                log.info("게시물에 등록되지 않은 이미지 삭제 (key = {})", key);
+            }
+            pendingImageUploadRepository.delete(pendingUpload);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("업로드 이미지 정리 실패 (key = {}): {}", key, e.getMessage());
+            return false;
+        }
+    }
+}
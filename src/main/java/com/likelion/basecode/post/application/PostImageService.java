@@ -0,0 +1,82 @@
+package com.likelion.basecode.post.application;
+
+import com.likelion.basecode.common.error.ErrorCode;
+import com.likelion.basecode.common.exception.BusinessException;
+import com.likelion.basecode.common.s3.PresignedUpload;
+import com.likelion.basecode.common.s3.S3Uploader;
+import com.likelion.basecode.post.domain.PendingImageUpload;
+import com.likelion.basecode.post.domain.repository.PendingImageUploadRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+
+// 게시물 이미지 업로드 (S3의 post-images 디렉토리)
+// 업로드 전에 대기 목록(pending_image_upload)에 key를 기록하고, 게시물 저장 트랜잭션에서 confirm으로 제거
+// 게시물이 커밋되지 않아 대기 목록에 남은 이미지는 PostImageReconciler가 삭제
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostImageService {
+
+    private static final String IMAGE_DIR = "post-images";
+
+    private final S3Uploader s3Uploader;
+    private final PendingImageUploadRepository pendingImageUploadRepository;
+
+    // 이미 버퍼링된 multipart 이미지 업로드 (트랜잭션 밖에서 호출)
+    public String upload(MultipartFile imageFile) {
+        try (InputStream inputStream = imageFile.getInputStream()) {
+            return upload(inputStream, imageFile.getContentType(), imageFile.getOriginalFilename());
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.S3_UPLOAD_FAIL, ErrorCode.S3_UPLOAD_FAIL.getMessage());
+        }
+    }
+
+    // 요청 본문 스트림을 그대로 S3로 전송 (트랜잭션 밖에서 호출)
+    public String upload(InputStream inputStream, String contentType, String fileName) {
+        String key = s3Uploader.createKey(IMAGE_DIR, fileName);
+        registerPending(key);
+        return s3Uploader.upload(key, inputStream, contentType);
+    }
+
+    // 클라이언트가 직접 업로드할 presigned URL 발급
+    public PresignedUpload createPresignedUpload(String fileName, String contentType) {
+        PresignedUpload presignedUpload = s3Uploader.createPresignedUpload(fileName, contentType, IMAGE_DIR);
+        registerPending(presignedUpload.key());
+        return presignedUpload;
+    }
+
+    // 클라이언트가 전달한 이미지 URL이 실제로 업로드된 게시물 이미지인지 확인
+    public String validateUploaded(String imageUrl) {
+        if (!s3Uploader.isUploaded(imageUrl, IMAGE_DIR)) {
+            throw new BusinessException(ErrorCode.INVALID_IMAGE_URL,
+                    ErrorCode.INVALID_IMAGE_URL.getMessage() + imageUrl);
+        }
+        return imageUrl;
+    }
+
+    // 게시물에 등록된 이미지를 대기 목록에서 제거 (게시물 저장 트랜잭션에 참여해 함께 커밋/롤백)
+    public void confirm(String imageUrl) {
+        s3Uploader.keyOf(imageUrl).ifPresent(pendingImageUploadRepository::deleteByObjectKey);
+    }
+
+    // 더 이상 사용하지 않는 이미지 삭제 (실패해도 요청은 성공 처리)
+    public void deleteQuietly(String imageUrl) {
+        s3Uploader.keyOf(imageUrl).ifPresent(key -> {
+            try {
+                s3Uploader.delete(key);
+            } catch (RuntimeException e) {
+                log.warn("게시물 이미지 삭제 실패 (key = {}): {}", key, e.getMessage());
+            }
+        });
+    }
+
+    // 업로드 전에 대기 목록에 기록 (자체 트랜잭션으로 바로 커밋되므로 업로드 도중 서버가 종료되어도 정리 대상에 남음)
+    private void registerPending(String key) {
+        pendingImageUploadRepository.save(new PendingImageUpload(key, Instant.now()));
+    }
+}
@@ -3,7 +3,6 @@ package com.likelion.basecode.post.application;
 import com.likelion.basecode.common.client.TagRecommendationClient;
 import com.likelion.basecode.common.error.ErrorCode;
 import com.likelion.basecode.common.exception.BusinessException;
-import com.likelion.basecode.common.s3.S3Uploader;
 import com.likelion.basecode.member.domain.Member;
 import com.likelion.basecode.member.domain.repository.MemberRepository;
 import com.likelion.basecode.post.api.dto.response.PostInfoResponseDto;
@@ -12,98 +11,302 @@ import com.likelion.basecode.post.api.dto.request.PostSaveRequestDto;
 import com.likelion.basecode.post.api.dto.request.PostUpdateRequestDto;
 import com.likelion.basecode.post.domain.Post;
 import com.likelion.basecode.post.domain.repository.PostRepository;
-import com.likelion.basecode.posttag.domain.PostTag;
+import com.likelion.basecode.posttag.domain.repository.PostTagName;
 import com.likelion.basecode.posttag.domain.repository.PostTagRepository;
-import com.likelion.basecode.tag.domain.Tag;
-import com.likelion.basecode.tag.domain.repository.TagRepository;
-import lombok.RequiredArgsConstructor;
+import com.likelion.basecode.tag.application.TagDictionary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
+// 게시물 저장/수정 단계별 소요 시간 지표 : post.stage (operation = save | update, stage 태그)
+// - image_upload : 이미지 업로드(또는 업로드된 URL 확인), tag_recommendation : 태그 추천(캐시 포함)
+// - persist : 저장 트랜잭션 전체, tag_register : 트랜잭션 안에서 태그 등록/교체
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostService {
 
+    // 게시글 목록 한 페이지의 기본/최대 크기
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final MemberRepository memberRepository;
     private final PostRepository postRepository;
-    private final TagRepository tagRepository;
     private final PostTagRepository postTagRepository;
     private final TagRecommendationClient tagClient;
-    private final S3Uploader s3Uploader;
+    private final PostTaggingService postTaggingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostImageService postImageService;
+    private final TagDictionary tagDictionary;
+    private final TransactionTemplate transactionTemplate;
+    // 이미지 업로드와 태그 추천을 동시에 실행하는 스레드 풀
+    private final AsyncTaskExecutor postSaveExecutor;
+    // 게시물 저장 시 태그 추천을 기다리는 최대 시간
+    private final long tagWaitMs;
+
+    private final Stages saveStages;
+    private final Stages updateStages;
+
+    public PostService(
+            MemberRepository memberRepository,
+            PostRepository postRepository,
+            PostTagRepository postTagRepository,
+            TagRecommendationClient tagClient,
+            PostTaggingService postTaggingService,
+            ApplicationEventPublisher eventPublisher,
+            PostImageService postImageService,
+            TagDictionary tagDictionary,
+            TransactionTemplate transactionTemplate,
+            @Qualifier("postSaveExecutor") AsyncTaskExecutor postSaveExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${post.save.tag-wait-ms:3000}") long tagWaitMs
+    ) {
+        this.memberRepository = memberRepository;
+        this.postRepository = postRepository;
+        this.postTagRepository = postTagRepository;
+        this.tagClient = tagClient;
+        this.postTaggingService = postTaggingService;
+        this.eventPublisher = eventPublisher;
+        this.postImageService = postImageService;
+        this.tagDictionary = tagDictionary;
+        this.transactionTemplate = transactionTemplate;
+        this.postSaveExecutor = postSaveExecutor;
+        this.tagWaitMs = tagWaitMs;
+
+        this.saveStages = Stages.of("save", meterRegistry);
+        this.updateStages = Stages.of("update", meterRegistry);
+    }
 
     // 게시물 저장
-    @Transactional
+    // 이미지 업로드와 태그 추천(외부 API)을 트랜잭션 밖에서 동시에 실행하고, 둘 다 끝나면 짧은 트랜잭션 하나로 저장
+    // 태그 추천이 tagWaitMs 안에 끝나지 않거나 실패하면 태그 없이 저장하고 커밋 이후 백그라운드에서 다시 추천
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PostInfoResponseDto postSave(PostSaveRequestDto postSaveRequestDto, MultipartFile imageFile) {
-        Member member = memberRepository.findById(postSaveRequestDto.memberId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND_EXCEPTION,
-                        ErrorCode.MEMBER_NOT_FOUND_EXCEPTION.getMessage() + postSaveRequestDto.memberId()));
-
-        String imageUrl = null;
-        if (imageFile != null && !imageFile.isEmpty()) {
-            imageUrl = s3Uploader.upload(imageFile, "post-images");
+        // 존재하지 않는 작성자라면 업로드 전에 실패 (existsById는 매번 쿼리를 실행하므로 2차 캐시를 거치는 findById로 확인)
+        if (memberRepository.findById(postSaveRequestDto.memberId()).isEmpty()) {
+            throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND_EXCEPTION,
+                    ErrorCode.MEMBER_NOT_FOUND_EXCEPTION.getMessage() + postSaveRequestDto.memberId());
         }
 
+        long tagDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(tagWaitMs);
+        Future<List<String>> tagsFuture = postSaveExecutor.submit(() -> saveStages.tagRecommendation()
+                .recordCallable(() -> tagClient.getRecommendedTags(postSaveRequestDto.contents())));
+        Future<String> imageUrlFuture = submitImageUpload(imageFile, postSaveRequestDto.imageUrl(), saveStages);
 
-        Post post = Post.builder()
-                .title(postSaveRequestDto.title())
-                .contents(postSaveRequestDto.contents())
-                .imageUrl(imageUrl)
-                .member(member)
-                .build();
+        String imageUrl = awaitImageUrl(imageUrlFuture, tagsFuture);
+        Optional<List<String>> tagNames = awaitTagsUntil(tagsFuture, tagDeadline);
 
-        postRepository.save(post);
+        return persist(saveStages, status -> {
+            Member member = memberRepository.findById(postSaveRequestDto.memberId())
+                    .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND_EXCEPTION,
+                            ErrorCode.MEMBER_NOT_FOUND_EXCEPTION.getMessage() + postSaveRequestDto.memberId()));
 
-        List<String> tagNames = tagClient.getRecommendedTags(post.getContents());
-        registerTagsToPost(post, tagNames);
+            Post post = Post.builder()
+                    .title(postSaveRequestDto.title())
+                    .contents(postSaveRequestDto.contents())
+                    .imageUrl(imageUrl)
+                    .member(member)
+                    .build();
 
-        Post postWithTags = postRepository.findByIdWithTags(post.getPostId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND_EXCEPTION,
-                        ErrorCode.POST_NOT_FOUND_EXCEPTION.getMessage() + post.getPostId()));
+            postRepository.save(post);
+            // 게시물과 함께 커밋되어야 이미지가 정리 대상에서 빠짐 (롤백되면 PostImageReconciler가 삭제)
+            if (imageUrl != null) {
+                postImageService.confirm(imageUrl);
+            }
+
+            // 추천 태그가 준비되었다면 같은 트랜잭션에서 등록, 아니라면 커밋 이후 백그라운드에서 처리 (응답 시점의 태그 상태는 PENDING)
+            tagNames.ifPresentOrElse(names -> {
+                saveStages.tagRegister().record(() -> postTaggingService.registerTagsToPost(post, names));
+                post.completeTagging();
+                // 커밋 후 등록된 태그로 추천 도서를 미리 계산
+                eventPublisher.publishEvent(PostTagsChangedEvent.of(post.getPostId()));
+            }, () -> eventPublisher.publishEvent(new PostTaggingRequestedEvent(post.getPostId(), post.getContents())));
+
+            return PostInfoResponseDto.from(post);
+        });
+    }
 
-        return PostInfoResponseDto.from(post);
+    // 특정 작성자가 작성한 게시글 목록을 최신순으로 조회 (post_id 기준 keyset 페이지네이션)
+    public PostListResponseDto postFindMember(Long memberId, Long cursor, int size) {
+        if (memberRepository.findById(memberId).isEmpty()) {
+            throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND_EXCEPTION,
+                    ErrorCode.MEMBER_NOT_FOUND_EXCEPTION.getMessage() + memberId);
+        }
+        return postFindMemberPage(memberId, cursor, size);
     }
 
-    // 특정 작성자가 작성한 게시글 목록을 조회
-    public PostListResponseDto postFindMember(Long memberId) {
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND_EXCEPTION,
-                        ErrorCode.MEMBER_NOT_FOUND_EXCEPTION.getMessage() + memberId));
+    // 작성자 존재 확인 없이 게시글 목록 한 페이지 조회 (내보내기처럼 첫 페이지에서 이미 확인한 경우)
+    public PostListResponseDto postFindMemberPage(Long memberId, Long cursor, int size) {
+        // 1. 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        int pageSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        List<Long> postIds = postRepository.findPostIdsByMember(
+                memberId, cursor == null ? Long.MAX_VALUE : cursor, PageRequest.of(0, pageSize + 1));
 
-        List<Post> posts = postRepository.findByMember(member);
-        List<PostInfoResponseDto> postInfoResponseDtos = posts.stream()
-                .map(PostInfoResponseDto::from)
-                .toList();
+        boolean hasNext = postIds.size() > pageSize;
+        List<Long> pagePostIds = hasNext ? postIds.subList(0, pageSize) : postIds;
 
-        return PostListResponseDto.from(postInfoResponseDtos);
+        // 2. 해당 페이지의 게시글과 태그 이름을 필요한 컬럼만 조회해 응답 DTO로 조립 (엔티티 생성 없음)
+        List<PostInfoResponseDto> postInfoResponseDtos = pagePostIds.isEmpty()
+                ? List.of()
+                : findPostInfos(pagePostIds);
+
+        Long nextCursor = hasNext ? pagePostIds.get(pagePostIds.size() - 1) : null;
+        return PostListResponseDto.from(postInfoResponseDtos, nextCursor);
+    }
+
+    private List<PostInfoResponseDto> findPostInfos(List<Long> postIds) {
+        Map<Long, List<String>> tagNames = postTagRepository.findTagNamesByPostIdIn(postIds).stream()
+                .collect(Collectors.groupingBy(PostTagName::postId,
+                        Collectors.mapping(PostTagName::tagName, Collectors.toList())));
+
+        return postRepository.findSummariesByPostIdIn(postIds).stream()
+                .map(summary -> PostInfoResponseDto.of(summary, tagNames.getOrDefault(summary.postId(), List.of())))
+                .toList();
     }
 
     // 게시물 수정
-    @Transactional
+    // 이미지 업로드와 태그 추천(외부 API)은 트랜잭션 밖에서 동시에 실행하고, DB 커넥션은 수정 SQL 동안만 사용
+    // 본문이 바뀌지 않았다면 태그를 다시 추천받지 않고, 바뀌었다면 기존 태그와의 차이만 삭제/추가
+    // 태그 추천이 tagWaitMs 안에 끝나지 않거나 실패하면 기존 태그를 유지한 채 수정하고 커밋 이후 백그라운드에서 다시 추천
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PostInfoResponseDto postUpdate(Long postId, PostUpdateRequestDto postUpdateRequestDto, MultipartFile imageFile) {
-        Post postWithTags = postRepository.findByIdWithTags(postId)
+        // 존재하지 않는 게시물이라면 업로드/태그 추천 전에 실패
+        String currentContents = postRepository.findContentsById(postId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND_EXCEPTION,
                         ErrorCode.POST_NOT_FOUND_EXCEPTION.getMessage() + postId));
+        boolean contentsChanged = !currentContents.equals(postUpdateRequestDto.contents());
+
+        // 수정된 내용으로 추천 태그 재생성
+        long tagDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(tagWaitMs);
+        Future<List<String>> tagsFuture = contentsChanged
+                ? postSaveExecutor.submit(() -> updateStages.tagRecommendation()
+                        .recordCallable(() -> tagClient.getRecommendedTags(postUpdateRequestDto.contents())))
+                : CompletableFuture.completedFuture(List.of());
+        Future<String> imageUrlFuture = submitImageUpload(imageFile, null, updateStages);
+
+        String imageUrl = awaitImageUrl(imageUrlFuture, tagsFuture);
+        Optional<List<String>> tagNames = contentsChanged ? awaitTagsUntil(tagsFuture, tagDeadline) : Optional.empty();
 
+        return persist(updateStages, status -> {
+            Post postWithTags = postRepository.findByIdWithTags(postId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND_EXCEPTION,
+                            ErrorCode.POST_NOT_FOUND_EXCEPTION.getMessage() + postId));
+
+            if (imageUrl != null) {
+                postWithTags.updateImage(imageUrl);
+                postImageService.confirm(imageUrl);
+            }
+
+            // 트랜잭션 밖에서 본문을 비교한 뒤 다른 요청이 본문을 바꿨을 수 있으므로 저장된 본문과 다시 비교
+            boolean retag = !postWithTags.getContents().equals(postUpdateRequestDto.contents());
+            postWithTags.update(postUpdateRequestDto);
+            if (!retag) {
+                return PostInfoResponseDto.from(postWithTags);
+            }
+
+            // 추천 태그를 받지 못한 경우(시간 초과, API를 사용할 수 없음, 다른 요청이 바꾼 본문을 되돌린 경우) :
+            // 기존 태그와 추천 도서는 그대로 두고 커밋 후 백그라운드에서 새 본문으로 다시 추천 (등록되면 추천 도서도 다시 계산)
+            if (tagNames.isEmpty()) {
+                postWithTags.requestTagging();
+                eventPublisher.publishEvent(new PostTaggingRequestedEvent(postId, postUpdateRequestDto.contents()));
+                return PostInfoResponseDto.from(postWithTags);
+            }
+
+            // 추천 태그와 기존 태그의 차이만 반영
+            updateStages.tagRegister().record(() -> postTaggingService.replaceTags(postWithTags, tagNames.get()));
+            postWithTags.completeTagging();
+
+            // 이전 태그로 계산한 추천 도서를 무효화하고 커밋 후 다시 계산
+            eventPublisher.publishEvent(PostTagsChangedEvent.of(postId));
+
+            return PostInfoResponseDto.from(postWithTags);
+        });
+    }
+
+    // 저장 트랜잭션 실행
+    // 다른 인스턴스에서 삭제된 태그가 버전 확인 전까지 태그 사전에 남아 있으면 PostTag 저장이 FK 위반으로 실패하므로,
+    // 사전 버전을 다시 확인(변경되었다면 다시 적재)한 뒤 한 번만 다시 실행
+    private PostInfoResponseDto persist(Stages stages, TransactionCallback<PostInfoResponseDto> callback) {
+        return stages.persist().record(() -> {
+            try {
+                return transactionTemplate.execute(callback);
+            } catch (DataIntegrityViolationException e) {
+                tagDictionary.refreshIfChanged();
+                return transactionTemplate.execute(callback);
+            }
+        });
+    }
+
+    // 새 이미지 파일은 업로드, 클라이언트가 미리 업로드한 이미지 URL은 이 버킷에 실제로 존재하는지만 확인 (이미지가 없으면 null)
+    private Future<String> submitImageUpload(MultipartFile imageFile, String uploadedImageUrl, Stages stages) {
         if (imageFile != null && !imageFile.isEmpty()) {
-            String imageUrl = s3Uploader.upload(imageFile, "post-images");
-            postWithTags.updateImage(imageUrl);
+            return postSaveExecutor.submit(() -> stages.imageUpload()
+                    .recordCallable(() -> postImageService.upload(imageFile)));
         }
+        if (uploadedImageUrl != null) {
+            return postSaveExecutor.submit(() -> stages.imageUpload()
+                    .recordCallable(() -> postImageService.validateUploaded(uploadedImageUrl)));
+        }
+        return CompletableFuture.completedFuture(null);
+    }
 
-        postWithTags.update(postUpdateRequestDto);
-
-        // 기존 태그(PostTag) 제거
-        postTagRepository.deleteAllByPost(postWithTags);
-        postWithTags.getPostTags().clear(); // 양방향 관계 유지
+    // 이미지 업로드 결과 대기 (업로드에 실패하거나 요청 스레드가 중단되면 진행 중인 태그 추천의 결과는 기다리지 않음)
+    // 태그 추천은 인터럽트 없이 취소 : 같은 내용의 다른 요청이 TagRecommendationClient에서 이 호출의 결과를 기다리고 있을 수 있고,
+    // 호출 중인 스레드를 중단하면 그 요청들도 함께 실패하므로 외부 호출은 끝까지 진행해 결과를 캐시에 남김
+    private String awaitImageUrl(Future<String> imageUrlFuture, Future<?> tagsFuture) {
+        try {
+            return imageUrlFuture.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            imageUrlFuture.cancel(true);
+            tagsFuture.cancel(false);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, ErrorCode.INTERNAL_SERVER_ERROR.getMessage());
+        } catch (ExecutionException e) {
+            tagsFuture.cancel(false);
+            throw unwrap(e, ErrorCode.S3_UPLOAD_FAIL);
+        }
+    }
 
-        // 수정된 내용으로 추천 태그 재생성 및 등록
-        List<String> tagNames = tagClient.getRecommendedTags(postWithTags.getContents());
-        registerTagsToPost(postWithTags, tagNames);
+    // 마감 시각까지 추천 태그 대기 (실패하거나 시간이 초과되면 empty)
+    // 시간이 초과된 추천은 취소하지 않음 : 같은 내용의 요청은 TagRecommendationClient에서 합쳐지므로 백그라운드 재시도가 결과를 이어받음
+    private Optional<List<String>> awaitTagsUntil(Future<List<String>> tagsFuture, long deadlineNanos) {
+        try {
+            return Optional.of(tagsFuture.get(Math.max(deadlineNanos - System.nanoTime(), 0), TimeUnit.NANOSECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            tagsFuture.cancel(false);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, ErrorCode.INTERNAL_SERVER_ERROR.getMessage());
+        } catch (ExecutionException | TimeoutException e) {
+            return Optional.empty();
+        }
+    }
 
-        return PostInfoResponseDto.from(postWithTags);
+    // 다른 스레드에서 발생한 예외를 BusinessException으로 전달 (BusinessException이 아니라면 errorCode로 감쌈)
+    private static BusinessException unwrap(ExecutionException e, ErrorCode errorCode) {
+        if (e.getCause() instanceof BusinessException businessException) {
+            return businessException;
+        }
+        return new BusinessException(errorCode, errorCode.getMessage());
     }
 
     // 게시물 삭제
@@ -114,19 +317,26 @@ public class PostService {
                         ErrorCode.POST_NOT_FOUND_EXCEPTION.getMessage() + postId));
 
         postRepository.delete(post);
+        // 삭제된 게시물의 추천 도서도 함께 삭제
+        eventPublisher.publishEvent(PostTagsChangedEvent.of(postId));
     }
 
-    // 게시물 추천 태그 목록 등록 및 PostTag 연관 엔티티 저장
-    private void registerTagsToPost(Post post, List<String> tagNames) {
-        for (String tagName : tagNames) {
-            // 기존 태그가 있다면 사용, 없으면 새로 생성
-            Tag tag = tagRepository.findByName(tagName)
-                    .orElseGet(() -> tagRepository.save(new Tag(tagName)));
-
-            // PostTag 생성 및 연관 관계 추가
-            PostTag postTag = new PostTag(post, tag);
-            post.getPostTags().add(postTag);   // 양방향 매핑 유지
-            postTagRepository.save(postTag);
+    // 저장/수정 단계별 타이머
+    private record Stages(Timer imageUpload, Timer tagRecommendation, Timer persist, Timer tagRegister) {
+
+        private static Stages of(String operation, MeterRegistry meterRegistry) {
+            return new Stages(
+                    timer(operation, "image_upload", meterRegistry),
+                    timer(operation, "tag_recommendation", meterRegistry),
+                    timer(operation, "persist", meterRegistry),
+                    timer(operation, "tag_register", meterRegistry));
+        }
+
+        private static Timer timer(String operation, String stage, MeterRegistry meterRegistry) {
+            return Timer.builder("post.stage")
+                    .tag("operation", operation)
+                    .tag("stage", stage)
+                    .register(meterRegistry);
         }
     }
 }
@@ -0,0 +1,8 @@
+package com.likelion.basecode.post.application;
+
+// 게시물 저장 트랜잭션 커밋 후 비동기 태그 추천을 요청하는 이벤트
+public record PostTaggingRequestedEvent(
+        Long postId,
+        String contents
+) {
+}
@@ -0,0 +1,142 @@
+package com.likelion.basecode.post.application;
+
+import com.likelion.basecode.post.domain.Post;
+import com.likelion.basecode.post.domain.repository.PostRepository;
+import com.likelion.basecode.posttag.domain.PostTag;
+import com.likelion.basecode.posttag.domain.repository.PostTagRepository;
+import com.likelion.basecode.tag.application.TagDictionary;
+import com.likelion.basecode.tag.domain.Tag;
+import com.likelion.basecode.tag.domain.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PostTaggingService {
+
+    private final PostRepository postRepository;
+    private final TagRepository tagRepository;
+    private final PostTagRepository postTagRepository;
+    private final TagDictionary tagDictionary;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 백그라운드에서 contents로 추천받은 태그를 게시물에 등록하고 태그 상태를 READY로 변경
+    // 기존 태그가 있다면(수정 중 다시 추천받은 경우) 차이만 반영
+    public void completeTagging(Long postId, String contents, List<String> tagNames) {
+        // 태그 추천 중 게시물이 삭제되었거나 본문이 수정되었다면 아무 작업도 하지 않음
+        // (이전 본문으로 늦게 끝난 추천이 수정된 본문의 태그를 덮어쓰지 않도록, 수정된 본문의 태그는 수정 요청 또는 그 요청의 백그라운드 추천이 등록)
+        // 게시글 행을 잠가 확인 이후 커밋까지 수정 요청이 본문을 바꾸지 못하게 함
+        boolean sameContents = postRepository.findByIdForUpdate(postId)
+                .filter(post -> post.getContents().equals(contents))
+                .isPresent();
+        if (!sameContents) {
+            return;
+        }
+        postRepository.findByIdWithTags(postId).ifPresent(post -> {
+            replaceTags(post, tagNames);
+            post.completeTagging();
+            // 커밋 후 등록된 태그로 추천 도서를 미리 계산
+            eventPublisher.publishEvent(PostTagsChangedEvent.of(postId));
+        });
+    }
+
+    // 재시도 후에도 태그 추천에 실패한 게시물의 태그 상태를 FAILED로 변경
+    // 큐가 가득 찬 경우 게시물 저장 트랜잭션의 AFTER_COMMIT 단계에서 호출되므로, 이미 커밋된 트랜잭션에 참여하지 않고 새 트랜잭션에서 저장
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void failTagging(Long postId) {
+        postRepository.findById(postId).ifPresent(Post::failTagging);
+    }
+
+    // 게시물 추천 태그 목록 등록 및 PostTag 연관 엔티티 저장 (호출한 쪽의 트랜잭션에 참여)
+    // 태그 id는 메모리의 태그 사전에서 찾고, 사전에 없는 태그만 DB에서 한 번에 조회/저장
+    public void registerTagsToPost(Post post, List<String> tagNames) {
+        Set<String> names = new LinkedHashSet<>(tagNames);
+        if (names.isEmpty()) {
+            return;
+        }
+        linkTags(post, tagIdsInOrder(names));
+    }
+
+    // 게시물의 태그를 tagNames로 교체 (호출한 쪽의 트랜잭션에 참여, post의 태그가 로드되어 있어야 함)
+    // 기존 태그와 새 태그의 차이만 반영 : 빠진 태그의 PostTag만 삭제(orphanRemoval)하고, 새로 생긴 태그의 PostTag만 추가
+    // 삭제/추가는 flush 시점에 각각 JDBC 배치로 전송됨
+    public void replaceTags(Post post, List<String> tagNames) {
+        Set<String> names = new LinkedHashSet<>(tagNames);
+        Set<Long> tagIds = names.isEmpty() ? Set.of() : tagIdsInOrder(names);
+
+        post.getPostTags().removeIf(postTag -> !tagIds.contains(postTag.getTag().getId()));
+        Set<Long> currentTagIds = post.getPostTags().stream()
+                .map(postTag -> postTag.getTag().getId())
+                .collect(Collectors.toSet());
+        linkTags(post, tagIds.stream()
+                .filter(tagId -> !currentTagIds.contains(tagId))
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
+    }
+
+    // 태그 이름 순서대로 태그 id (대소문자만 다른 태그는 하나로 취급)
+    private Set<Long> tagIdsInOrder(Set<String> names) {
+        Map<String, Long> tagIds = resolveTagIds(names);
+        return names.stream()
+                .map(tagIds::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    // PostTag 생성 및 연관 관계 추가
+    // 태그는 id만 필요하므로 조회 없이 프록시 참조 사용
+    private void linkTags(Post post, Set<Long> tagIds) {
+        if (tagIds.isEmpty()) {
+            return;
+        }
+        List<PostTag> postTags = tagIds.stream()
+                .map(tagId -> new PostTag(post, tagRepository.getReferenceById(tagId)))
+                .toList();
+        post.getPostTags().addAll(postTags);   // 양방향 매핑 유지
+        postTagRepository.saveAll(postTags);
+    }
+
+    // 태그 이름 -> id (사전에서 찾지 못한 태그는 DB에서 조회하거나 새로 저장)
+    private Map<String, Long> resolveTagIds(Set<String> names) {
+        // MySQL 기본 collation은 대소문자를 구분하지 않으므로 같은 기준으로 매핑
+        Map<String, Long> tagIds = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        tagIds.putAll(tagDictionary.findIds(names));
+
+        List<String> missingNames = names.stream()
+                .filter(name -> !tagIds.containsKey(name))
+                .toList();
+        if (!missingNames.isEmpty()) {
+            List<Tag> tags = findOrCreateTags(missingNames);
+            tags.forEach(tag -> tagIds.put(tag.getName(), tag.getId()));
+            tagDictionary.registerAfterCommit(tags);
+        }
+        return tagIds;
+    }
+
+    // 이름으로 태그를 한 번에 조회하고, 없는 태그만 한 번에 저장한 뒤 다시 조회
+    private List<Tag> findOrCreateTags(List<String> names) {
+        Map<String, Tag> tags = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        tagRepository.findByNameIn(names).forEach(tag -> tags.put(tag.getName(), tag));
+
+        List<String> missingNames = names.stream()
+                .filter(name -> !tags.containsKey(name))
+                .toList();
+        if (!missingNames.isEmpty()) {
+            // 사전 버전은 올리지 않음 (모든 저장이 버전 행 잠금을 기다리고, 모든 인스턴스가 전체 태그를 다시 읽게 되므로)
+            // 이 인스턴스의 사전에는 커밋 후 추가되고, 다른 인스턴스는 사전에서 찾지 못한 태그를 DB에서 조회할 때 추가
+            tagRepository.insertIgnoreAll(missingNames);
+            tagRepository.findByNameIn(missingNames).forEach(tag -> tags.put(tag.getName(), tag));
+        }
+        return List.copyOf(tags.values());
+    }
+}
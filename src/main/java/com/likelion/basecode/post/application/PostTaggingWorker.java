@@ -0,0 +1,188 @@
+package com.likelion.basecode.post.application;
+
+import com.likelion.basecode.common.client.TagRecommendationClient;
+import com.likelion.basecode.common.error.ErrorCode;
+import com.likelion.basecode.common.exception.BusinessException;
+import com.likelion.basecode.tag.application.TagDictionary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+// 게시물 저장 트랜잭션과 분리된 태그 추천 파이프라인
+// - 게시물 저장이 커밋된 뒤에만 작업을 제한된 크기의 큐에 넣음
+// - 태그 추천 실패 시 지수 백오프로 재시도하고, 모두 실패하면 dead-letter 목록에 기록한 뒤 FAILED 상태로 변경
+// - 서킷이 열려 있다면(TAG_API_UNAVAILABLE) 바로 거절되므로 작업 스레드에서 기다리지 않고 open 유지 시간 뒤에 다시 큐에 등록
+//   (동시 호출 수 초과(TAG_API_BUSY)는 일시적인 실패이므로 다른 실패와 같이 백오프 후 재시도)
+@Slf4j
+@Component
+public class PostTaggingWorker {
+
+    private final TagRecommendationClient tagClient;
+    private final PostTaggingService postTaggingService;
+    private final TagDictionary tagDictionary;
+    private final Executor executor;
+    private final int maxAttempts;
+    private final long backoffMs;
+    // 서킷이 열린 경우 다시 큐에 등록하기 전까지 기다리는 executor (서킷 open 유지 시간 뒤 실행)
+    private final Executor circuitOpenDelay;
+    private final int deadLetterCapacity;
+
+    // 최근 실패한 태그 추천 작업 (오래된 항목부터 제거)
+    private final ConcurrentLinkedDeque<DeadLetter> deadLetters = new ConcurrentLinkedDeque<>();
+
+    private final Counter successCounter;
+    private final Counter retryCounter;
+    private final Counter deadLetterCounter;
+
+    public PostTaggingWorker(
+            TagRecommendationClient tagClient,
+            PostTaggingService postTaggingService,
+            TagDictionary tagDictionary,
+            @Qualifier("postTaggingExecutor") Executor executor,
+            MeterRegistry meterRegistry,
+            @Value("${post.tagging.max-attempts:3}") int maxAttempts,
+            @Value("${post.tagging.backoff-ms:500}") long backoffMs,
+            @Value("${post.tagging.dead-letter-capacity:1000}") int deadLetterCapacity,
+            @Value("${resilience.tag-api.wait-in-open-ms:30000}") long waitInOpenMs
+    ) {
+        this.tagClient = tagClient;
+        this.postTaggingService = postTaggingService;
+        this.tagDictionary = tagDictionary;
+        this.executor = executor;
+        this.maxAttempts = maxAttempts;
+        this.backoffMs = backoffMs;
+        this.circuitOpenDelay = waitInOpenMs > 0
+                ? CompletableFuture.delayedExecutor(waitInOpenMs, TimeUnit.MILLISECONDS)
+                : Runnable::run;
+        this.deadLetterCapacity = deadLetterCapacity;
+
+        this.successCounter = Counter.builder("post.tagging.tasks")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("post.tagging.tasks")
+                .tag("outcome", "retry")
+                .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("post.tagging.tasks")
+                .tag("outcome", "dead_letter")
+                .register(meterRegistry);
+        Gauge.builder("post.tagging.dead.letters", deadLetters, ConcurrentLinkedDeque::size)
+                .register(meterRegistry);
+    }
+
+    // 게시물 저장 커밋 이후 태그 추천 작업을 큐에 등록
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTaggingRequested(PostTaggingRequestedEvent event) {
+        enqueue(event, 1);
+    }
+
+    // 최근 실패한 태그 추천 작업 목록 조회
+    public List<DeadLetter> getDeadLetters() {
+        return List.copyOf(deadLetters);
+    }
+
+    // firstAttempt 번째 시도부터 태그 추천 작업을 큐에 등록
+    private void enqueue(PostTaggingRequestedEvent event, int firstAttempt) {
+        try {
+            executor.execute(() -> tag(event, firstAttempt));
+        } catch (RejectedExecutionException e) {
+            // 큐가 가득 찬 경우 요청 스레드를 붙잡지 않고 바로 실패 처리
+            deadLetter(event, "태그 추천 작업 큐가 가득 찼습니다.");
+        }
+    }
+
+    private void tag(PostTaggingRequestedEvent event, int firstAttempt) {
+        for (int attempt = firstAttempt; attempt <= maxAttempts; attempt++) {
+            try {
+                List<String> tagNames = tagClient.getRecommendedTags(event.contents());
+                postTaggingService.completeTagging(event.postId(), event.contents(), tagNames);
+                successCounter.increment();
+                return;
+            } catch (RuntimeException e) {
+                if (e instanceof BusinessException businessException
+                        && businessException.getErrorCode() == ErrorCode.TAG_API_UNAVAILABLE) {
+                    requeueAfterCircuitOpen(event, attempt, e);
+                    return;
+                }
+                if (!retry(event, attempt, e)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    // 서킷이 열려 있는 동안은 재시도해도 바로 거절되므로, 작업 스레드를 비우고 half-open 으로 바뀔 시간 뒤에 다음 시도를 큐에 등록
+    private void requeueAfterCircuitOpen(PostTaggingRequestedEvent event, int attempt, RuntimeException e) {
+        log.warn("게시물 태그 추천 API 서킷 open (postId = {}, attempt = {}/{}): {}",
+                event.postId(), attempt, maxAttempts, e.getMessage());
+        if (attempt == maxAttempts) {
+            deadLetter(event, e.getMessage());
+            return;
+        }
+        retryCounter.increment();
+        circuitOpenDelay.execute(() -> enqueue(event, attempt + 1));
+    }
+
+    // 재시도 가능하면 대기 후 true, 더 이상 재시도하지 않는다면 dead-letter 처리 후 false
+    private boolean retry(PostTaggingRequestedEvent event, int attempt, RuntimeException e) {
+        log.warn("게시물 태그 추천 실패 (postId = {}, attempt = {}/{}): {}",
+                event.postId(), attempt, maxAttempts, e.getMessage());
+        if (attempt == maxAttempts) {
+            deadLetter(event, e.getMessage());
+            return false;
+        }
+        retryCounter.increment();
+        if (!sleep(backoffMs << (attempt - 1))) {
+            deadLetter(event, "태그 추천 작업이 중단되었습니다.");
+            return false;
+        }
+        // 다른 인스턴스에서 삭제/수정된 태그 때문에 실패했을 수 있으므로 재시도 전 태그 사전 확인
+        tagDictionary.refreshIfChanged();
+        return true;
+    }
+
+    private void deadLetter(PostTaggingRequestedEvent event, String reason) {
+        deadLetterCounter.increment();
+        deadLetters.addLast(new DeadLetter(event.postId(), event.contents(), reason, Instant.now()));
+        while (deadLetters.size() > deadLetterCapacity) {
+            deadLetters.pollFirst();
+        }
+
+        try {
+            postTaggingService.failTagging(event.postId());
+        } catch (RuntimeException e) {
+            log.error("게시물 태그 상태 변경 실패 (postId = {}): {}", event.postId(), e.getMessage(), e);
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 실패한 태그 추천 작업 기록
+    public record DeadLetter(
+            Long postId,
+            String contents,
+            String reason,
+            Instant failedAt
+    ) {
+    }
+}
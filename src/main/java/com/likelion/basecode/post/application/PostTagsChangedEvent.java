@@ -0,0 +1,19 @@
+package com.likelion.basecode.post.application;
+
+import java.util.Collection;
+import java.util.List;
+
+// 게시물의 태그가 바뀌었거나(등록/수정, 태그 이름 변경/삭제) 게시물이 삭제되었음을 알리는 이벤트
+// 미리 계산해 둔 게시물별 추천 도서를 같은 트랜잭션에서 무효화하고, 커밋 후 다시 계산하는 데 사용
+public record PostTagsChangedEvent(
+        List<Long> postIds
+) {
+
+    public static PostTagsChangedEvent of(Long postId) {
+        return new PostTagsChangedEvent(List.of(postId));
+    }
+
+    public static PostTagsChangedEvent of(Collection<Long> postIds) {
+        return new PostTagsChangedEvent(List.copyOf(postIds));
+    }
+}
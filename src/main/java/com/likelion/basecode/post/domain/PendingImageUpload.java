@@ -0,0 +1,32 @@
+package com.likelion.basecode.post.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.Instant;
+
+// 업로드했지만 아직 게시물에 등록되지 않은 이미지
+// 업로드 전에 저장하고 게시물 저장 트랜잭션에서 삭제하므로, 오래 남아 있는 행은 게시물이 커밋되지 않은 이미지
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_pending_image_upload_created_at", columnList = "created_at"))
+public class PendingImageUpload {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "pending_image_upload_id")
+    private Long id;
+
+    @Column(name = "object_key", nullable = false, unique = true, length = 512)
+    private String objectKey;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public PendingImageUpload(String objectKey, Instant createdAt) {
+        this.objectKey = objectKey;
+        this.createdAt = createdAt;
+    }
+}
@@ -8,6 +8,8 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -15,6 +17,11 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+// 작성자별 게시글 keyset 조회(member_id = ? AND post_id < ? ORDER BY post_id DESC)와 이미지 URL 조회용 인덱스
+@Table(indexes = {
+        @Index(name = "idx_post_member_id", columnList = "member_id, post_id"),
+        @Index(name = "idx_post_image_url", columnList = "image_url")
+})
 public class Post {
 
     @Id
@@ -25,16 +32,20 @@ public class Post {
     @Column(nullable = false)
     private String title;
 
-    @Column(nullable = false)
+    @Column(nullable = false, columnDefinition = "TEXT")
     private String contents;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
 
-    @Column(name = "image_url")
+    @Column(name = "image_url", length = 768)
     private String imageUrl;
 
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "tag_status", length = 20, nullable = false)
+    private TagStatus tagStatus = TagStatus.PENDING;
 
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<PostTag> postTags = new ArrayList<>();
@@ -55,4 +66,17 @@ public class Post {
     public void updateImage(String imageUrl) {
         this.imageUrl = imageUrl;
     }
+
+    // 본문이 바뀌어 태그를 백그라운드에서 다시 추천받는 중 (기존 태그는 유지)
+    public void requestTagging() {
+        this.tagStatus = TagStatus.PENDING;
+    }
+
+    public void completeTagging() {
+        this.tagStatus = TagStatus.READY;
+    }
+
+    public void failTagging() {
+        this.tagStatus = TagStatus.FAILED;
+    }
 }
@@ -0,0 +1,8 @@
+package com.likelion.basecode.post.domain;
+
+// 게시글 추천 태그 등록 상태
+public enum TagStatus {
+    PENDING,    // 태그 추천 대기/진행 중
+    READY,      // 태그 등록 완료
+    FAILED      // 재시도 후에도 태그 추천 실패
+}
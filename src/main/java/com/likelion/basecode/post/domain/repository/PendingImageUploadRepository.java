@@ -0,0 +1,22 @@
+package com.likelion.basecode.post.domain.repository;
+
+import com.likelion.basecode.post.domain.PendingImageUpload;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.Instant;
+import java.util.List;
+
+public interface PendingImageUploadRepository extends JpaRepository<PendingImageUpload, Long> {
+
+    // 게시물에 등록된 이미지는 대기 목록에서 제거
+    @Modifying
+    @Query("DELETE FROM PendingImageUpload u WHERE u.objectKey = :objectKey")
+    int deleteByObjectKey(@Param("objectKey") String objectKey);
+
+    // 기준 시각 이전에 업로드되어 아직 게시물에 등록되지 않은 이미지 (오래된 순)
+    @Query("SELECT u FROM PendingImageUpload u WHERE u.createdAt < :before ORDER BY u.createdAt")
+    List<PendingImageUpload> findCreatedBefore(@Param("before") Instant before, Pageable pageable);
+}
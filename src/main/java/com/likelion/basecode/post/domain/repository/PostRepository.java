@@ -1,16 +1,44 @@
 package com.likelion.basecode.post.domain.repository;
 
-import com.likelion.basecode.member.domain.Member;
 import com.likelion.basecode.post.domain.Post;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
-    List<Post> findByMember(Member member);
+    // 작성자의 게시글 id를 최신순(post_id 내림차순)으로 cursor 이후부터 조회 (keyset 페이지네이션)
+    @Query("SELECT p.postId FROM Post p " +
+            "WHERE p.member.memberId = :memberId AND p.postId < :cursor " +
+            "ORDER BY p.postId DESC")
+    List<Long> findPostIdsByMember(@Param("memberId") Long memberId,
+                                   @Param("cursor") Long cursor,
+                                   Pageable pageable);
+
+    // 게시글 목록 응답에 필요한 컬럼만 작성자 이름과 함께 조회 (엔티티/영속성 컨텍스트 관리 없음)
+    @Query("SELECT new com.likelion.basecode.post.domain.repository.PostSummary(" +
+            "p.postId, p.title, p.contents, m.name, p.tagStatus, p.imageUrl) " +
+            "FROM Post p JOIN p.member m " +
+            "WHERE p.postId IN :postIds " +
+            "ORDER BY p.postId DESC")
+    List<PostSummary> findSummariesByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    boolean existsByImageUrl(String imageUrl);
+
+    // 게시글 본문만 조회 (수정 시 태그를 다시 추천받아야 하는지 판단)
+    @Query("SELECT p.contents FROM Post p WHERE p.postId = :postId")
+    Optional<String> findContentsById(@Param("postId") Long postId);
+
+    // 게시글 행을 잠그고 조회 (백그라운드 태그 등록이 본문 확인부터 태그 교체까지 수정 요청과 겹치지 않도록 함)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Post p WHERE p.postId = :postId")
+    Optional<Post> findByIdForUpdate(@Param("postId") Long postId);
 
     @Query("SELECT p FROM Post p " +
             "JOIN FETCH p.member " +
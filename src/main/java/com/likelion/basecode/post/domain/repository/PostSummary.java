@@ -0,0 +1,14 @@
+package com.likelion.basecode.post.domain.repository;
+
+import com.likelion.basecode.post.domain.TagStatus;
+
+// 게시글 목록 응답에 필요한 컬럼만 담는 조회 전용 프로젝션 (영속성 컨텍스트에서 관리하지 않음)
+public record PostSummary(
+        Long postId,
+        String title,
+        String contents,
+        String writer,
+        TagStatus tagStatus,
+        String imageUrl
+) {
+}
@@ -10,11 +10,19 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+// 같은 게시글에 같은 태그는 한 번만 연결 (게시글별 태그 조회에도 사용), 태그별 게시글 조회용 인덱스
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_post_tag_post_id_tag_id", columnNames = {"post_id", "tag_id"}),
+        indexes = @Index(name = "idx_post_tag_tag_id", columnList = "tag_id, post_id")
+)
 public class PostTag {
 
     @Id
     @Column(name = "post_tag_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 전략은 INSERT마다 즉시 실행되어 JDBC 배치가 불가능하므로 pooled 시퀀스 사용
+    // (시퀀스가 없는 MySQL에서는 post_tag_seq 테이블로 동작하며 allocationSize 만큼 미리 할당)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_tag_seq_generator")
+    @SequenceGenerator(name = "post_tag_seq_generator", sequenceName = "post_tag_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,8 @@
+package com.likelion.basecode.posttag.domain.repository;
+
+// 게시글 id와 태그 이름만 담는 조회 전용 프로젝션
+public record PostTagName(
+        Long postId,
+        String tagName
+) {
+}
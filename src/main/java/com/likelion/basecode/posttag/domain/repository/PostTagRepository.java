@@ -1,15 +1,29 @@
 package com.likelion.basecode.posttag.domain.repository;
 
-import com.likelion.basecode.post.domain.Post;
 import com.likelion.basecode.posttag.domain.PostTag;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.util.Collection;
+import java.util.List;
 
 public interface PostTagRepository extends JpaRepository<PostTag, Long> {
 
-    @Modifying(clearAutomatically = true)
-    @Query("DELETE FROM PostTag pt WHERE pt.post = :post")
-    void deleteAllByPost(@Param("post") Post post);
+    // 여러 게시글의 태그 이름을 한 번에 조회 (PostTag/Tag 엔티티를 만들지 않음)
+    @Query("SELECT new com.likelion.basecode.posttag.domain.repository.PostTagName(pt.post.postId, t.name) " +
+            "FROM PostTag pt JOIN pt.tag t " +
+            "WHERE pt.post.postId IN :postIds " +
+            "ORDER BY pt.id")
+    List<PostTagName> findTagNamesByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    // 특정 태그가 등록된 게시글 id 목록
+    @Query("SELECT DISTINCT pt.post.postId FROM PostTag pt WHERE pt.tag.id = :tagId")
+    List<Long> findPostIdsByTagId(@Param("tagId") Long tagId);
+
+    // 태그가 등록된 게시글 id를 cursor 이후부터 오름차순으로 조회 (keyset 페이지네이션)
+    @Query("SELECT DISTINCT pt.post.postId FROM PostTag pt " +
+            "WHERE pt.post.postId > :cursor " +
+            "ORDER BY pt.post.postId")
+    List<Long> findTaggedPostIds(@Param("cursor") Long cursor, Pageable pageable);
 }
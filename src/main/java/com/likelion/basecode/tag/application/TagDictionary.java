@@ -0,0 +1,178 @@
+package com.likelion.basecode.tag.application;
+
+import com.likelion.basecode.tag.api.dto.response.TagInfoResponseDto;
+import com.likelion.basecode.tag.domain.Tag;
+import com.likelion.basecode.tag.domain.TagDictionaryVersion;
+import com.likelion.basecode.tag.domain.repository.TagDictionaryVersionRepository;
+import com.likelion.basecode.tag.domain.repository.TagRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 태그 이름 -> id 사전 (애플리케이션 메모리에 보관)
+// - 기동 시 전체 태그를 읽어 두고, 게시물 태그 등록 시 DB 조회 없이 이름으로 id를 찾음
+// - 관리자가 태그를 생성/수정/삭제하면(TagService) DB의 사전 버전을 올리고, 각 인스턴스는 주기적으로 버전을 확인해 변경 시 다시 읽음
+// - 게시물 태그 등록 중 새로 저장된 태그는 버전을 올리지 않고, 사전에서 찾지 못해 DB에서 조회한 인스턴스가 커밋 후 추가
+//   (사전에 없는 태그가 있을 수 있으므로 전체 태그 목록은 사전이 아닌 DB에서 조회 : TagService.getAllTags)
+// - 다른 인스턴스에서 삭제된 태그는 버전 확인 전까지 사전에 남아 있을 수 있음 (PostTag 저장이 FK 위반으로 실패하면
+//   사전 버전을 다시 확인한 뒤 한 번 더 저장 : PostService)
+// - MySQL 기본 collation과 같이 이름의 대소문자는 구분하지 않음
+@Slf4j
+@Component
+public class TagDictionary {
+
+    private final TagRepository tagRepository;
+    private final TagDictionaryVersionRepository versionRepository;
+
+    // 현재 사전 (버전이 바뀌면 새로 읽은 사전으로 통째로 교체)
+    private volatile Snapshot snapshot = new Snapshot(-1, new ConcurrentHashMap<>());
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public TagDictionary(TagRepository tagRepository,
+                         TagDictionaryVersionRepository versionRepository,
+                         MeterRegistry meterRegistry) {
+        this.tagRepository = tagRepository;
+        this.versionRepository = versionRepository;
+        this.hitCounter = Counter.builder("tag.dictionary.lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("tag.dictionary.lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("tag.dictionary.size", this, dictionary -> dictionary.snapshot.entries().size())
+                .register(meterRegistry);
+    }
+
+    // 이름으로 태그 id 조회 (사전에 있는 이름만 결과에 포함)
+    public Map<String, Long> findIds(Collection<String> names) {
+        Map<String, TagEntry> entries = snapshot.entries();
+        Map<String, Long> ids = new HashMap<>();
+        for (String name : names) {
+            TagEntry entry = entries.get(key(name));
+            if (entry == null) {
+                missCounter.increment();
+                continue;
+            }
+            hitCounter.increment();
+            ids.put(name, entry.id());
+        }
+        return ids;
+    }
+
+    public Optional<Long> findId(String name) {
+        return Optional.ofNullable(findIds(List.of(name)).get(name));
+    }
+
+    // DB에서 읽은 태그를 현재 트랜잭션이 커밋된 뒤 사전에 추가
+    // (롤백된 트랜잭션의 태그 id가 사전에 남지 않도록)
+    public void registerAfterCommit(Collection<Tag> tags) {
+        List<TagEntry> entries = tags.stream()
+                .map(tag -> new TagEntry(tag.getId(), tag.getName()))
+                .toList();
+        afterCommit(() -> {
+            Map<String, TagEntry> current = snapshot.entries();
+            entries.forEach(entry -> current.putIfAbsent(key(entry.name()), entry));
+        });
+    }
+
+    // 관리자의 태그 생성/수정/삭제 시 호출 : 현재 트랜잭션 안에서 사전 버전을 올리고, 커밋 후 이 인스턴스의 사전을 갱신
+    public void markChanged() {
+        versionRepository.increment(TagDictionaryVersion.SINGLETON_ID);
+        afterCommit(this::refreshIfChanged);
+    }
+
+    // 기동 완료 후 사전 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    // 다른 인스턴스에서 태그가 변경되었는지 주기적으로 확인 (PK 조회 한 번)
+    @Scheduled(initialDelayString = "${tag.dictionary.version-check-ms:2000}",
+            fixedDelayString = "${tag.dictionary.version-check-ms:2000}")
+    public void refreshIfChanged() {
+        try {
+            long version = currentVersion();
+            if (version != snapshot.version()) {
+                reload();
+            }
+        } catch (RuntimeException e) {
+            // 확인에 실패해도 기존 사전은 계속 사용하고 다음 주기에 다시 시도
+            log.warn("태그 사전 버전 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    // 전체 태그를 다시 읽어 사전 교체
+    // (DB 조회 중 가상 스레드가 캐리어 스레드를 점유하지 않도록 synchronized 대신 ReentrantLock 사용)
+    public void reload() {
+        reloadLock.lock();
+        try {
+            // 태그보다 버전을 먼저 읽어, 읽는 도중 변경이 생기면 다음 확인 때 다시 읽도록 함
+            long version = currentVersion();
+            ConcurrentHashMap<String, TagEntry> entries = new ConcurrentHashMap<>();
+            for (TagInfoResponseDto tag : tagRepository.findAllTagInfos()) {
+                entries.put(key(tag.name()), new TagEntry(tag.id(), tag.name()));
+            }
+            snapshot = new Snapshot(version, entries);
+            log.info("태그 사전 적재 완료 (version = {}, size = {})", version, entries.size());
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private long currentVersion() {
+        return versionRepository.findVersion(TagDictionaryVersion.SINGLETON_ID)
+                .orElseGet(this::initVersion);
+    }
+
+    // 버전 행이 없다면 생성 (여러 인스턴스가 동시에 생성하려는 경우 먼저 저장된 행 사용)
+    private long initVersion() {
+        try {
+            return versionRepository.save(new TagDictionaryVersion(TagDictionaryVersion.SINGLETON_ID)).getVersion();
+        } catch (DataIntegrityViolationException e) {
+            return versionRepository.findVersion(TagDictionaryVersion.SINGLETON_ID).orElse(0L);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    public record TagEntry(Long id, String name) {
+    }
+
+    private record Snapshot(long version, ConcurrentHashMap<String, TagEntry> entries) {
+    }
+}
@@ -1,5 +1,7 @@
 package com.likelion.basecode.tag.application;
 
+import com.likelion.basecode.post.application.PostTagsChangedEvent;
+import com.likelion.basecode.posttag.domain.repository.PostTagRepository;
 import com.likelion.basecode.tag.api.dto.request.TagSaveRequestDto;
 import com.likelion.basecode.tag.api.dto.request.TagUpdateRequestDto;
 import com.likelion.basecode.tag.api.dto.response.TagInfoResponseDto;
@@ -7,10 +9,10 @@ import com.likelion.basecode.tag.api.dto.response.TagListResponseDto;
 import com.likelion.basecode.tag.domain.Tag;
 import com.likelion.basecode.tag.domain.repository.TagRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -18,6 +20,9 @@ import java.util.stream.Collectors;
 public class TagService {
 
     private final TagRepository tagRepository;
+    private final TagDictionary tagDictionary;
+    private final PostTagRepository postTagRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 태그 저장
     @Transactional
@@ -26,16 +31,13 @@ public class TagService {
                 .name(tagSaveRequestDto.name())
                 .build();
         tagRepository.save(tag);
+        tagDictionary.markChanged();
     }
 
-    // 태그 전체 조회
+    // 태그 전체 조회 (id, name 컬럼만 조회)
+    // 태그 사전은 게시물 저장 중 다른 인스턴스에서 추가된 태그를 모를 수 있으므로 목록은 DB에서 조회
     public TagListResponseDto getAllTags() {
-        List<Tag> tags = tagRepository.findAll();
-        return TagListResponseDto.from(
-                tags.stream()
-                        .map(TagInfoResponseDto::from)
-                        .collect(Collectors.toList())
-        );
+        return TagListResponseDto.from(tagRepository.findAllTagInfos());
     }
 
     // 태그 단건 조회
@@ -51,6 +53,9 @@ public class TagService {
         Tag tag = tagRepository.findById(tagId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 태그가 없습니다. id=" + tagId));
         tag.update(tagUpdateRequestDto);
+        tagDictionary.markChanged();
+        // 이 태그가 등록된 게시물의 추천 도서를 바뀐 태그 이름으로 다시 계산
+        publishPostTagsChanged(postTagRepository.findPostIdsByTagId(tagId));
     }
 
     // 태그 삭제
@@ -58,7 +63,17 @@ public class TagService {
     public void tagDelete(Long tagId) {
         Tag tag = tagRepository.findById(tagId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 태그가 없습니다. id=" + tagId));
+        // 연결이 끊기기 전에 이 태그가 등록된 게시물을 확인해 두고, 남은 태그로 추천 도서를 다시 계산
+        List<Long> postIds = postTagRepository.findPostIdsByTagId(tagId);
         tag.getPostTags().clear();
         tagRepository.delete(tag);
+        tagDictionary.markChanged();
+        publishPostTagsChanged(postIds);
+    }
+
+    private void publishPostTagsChanged(List<Long> postIds) {
+        if (!postIds.isEmpty()) {
+            eventPublisher.publishEvent(PostTagsChangedEvent.of(postIds));
+        }
     }
 }
@@ -7,12 +7,18 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.ArrayList;
 import java.util.List;
 
+// 2차 캐시 tag 영역 (수정/삭제 커밋 시 갱신, INSERT IGNORE 로 태그를 추가하면 영역 전체가 비워짐)
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tag")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_tag_name", columnNames = "name"))
 public class Tag {
 
     @Id
@@ -0,0 +1,29 @@
+package com.likelion.basecode.tag.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 태그 사전 변경 버전 (여러 애플리케이션 인스턴스가 메모리의 태그 사전을 다시 읽어야 하는지 판단하는 용도)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TagDictionaryVersion {
+
+    // 버전 행은 하나만 사용
+    public static final Long SINGLETON_ID = 1L;
+
+    @Id
+    @Column(name = "tag_dictionary_version_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private long version;
+
+    public TagDictionaryVersion(Long id) {
+        this.id = id;
+    }
+}
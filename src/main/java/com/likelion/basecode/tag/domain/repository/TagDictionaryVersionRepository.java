@@ -0,0 +1,18 @@
+package com.likelion.basecode.tag.domain.repository;
+
+import com.likelion.basecode.tag.domain.TagDictionaryVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Optional;
+
+public interface TagDictionaryVersionRepository extends JpaRepository<TagDictionaryVersion, Long> {
+
+    @Query("SELECT v.version FROM TagDictionaryVersion v WHERE v.id = :id")
+    Optional<Long> findVersion(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE TagDictionaryVersion v SET v.version = v.version + 1 WHERE v.id = :id")
+    int increment(@Param("id") Long id);
+}
@@ -1,10 +1,26 @@
 package com.likelion.basecode.tag.domain.repository;
 
+import com.likelion.basecode.tag.api.dto.response.TagInfoResponseDto;
 import com.likelion.basecode.tag.domain.Tag;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
-import java.util.Optional;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import java.util.Collection;
+import java.util.List;
 
-public interface TagRepository extends JpaRepository<Tag, Long> {
+public interface TagRepository extends JpaRepository<Tag, Long>, TagRepositoryCustom {
 
-    Optional<Tag> findByName(String name);
+    List<Tag> findByNameIn(Collection<String> names);
+
+    // 응답에 필요한 컬럼(id, name)만 조회해 바로 응답 DTO로 생성 (엔티티/영속성 컨텍스트 관리 없음)
+    // 2차 캐시의 쿼리 캐시(tag-list 영역) 사용 : tag 테이블이 변경되면(INSERT IGNORE 포함) Hibernate가 캐시된 결과를 무효화
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "tag-list")
+    })
+    @Query("SELECT new com.likelion.basecode.tag.api.dto.response.TagInfoResponseDto(t.id, t.name) " +
+            "FROM Tag t ORDER BY t.id")
+    List<TagInfoResponseDto> findAllTagInfos();
 }
@@ -0,0 +1,9 @@
+package com.likelion.basecode.tag.domain.repository;
+
+import java.util.Collection;
+
+public interface TagRepositoryCustom {
+
+    // 존재하지 않는 태그만 한 번의 multi-row INSERT로 저장 (이미 있는 이름은 무시)
+    int insertIgnoreAll(Collection<String> names);
+}
@@ -0,0 +1,39 @@
+package com.likelion.basecode.tag.domain.repository;
+
+import com.likelion.basecode.tag.domain.Tag;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.query.NativeQuery;
+import java.util.Collection;
+import java.util.StringJoiner;
+
+public class TagRepositoryCustomImpl implements TagRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int insertIgnoreAll(Collection<String> names) {
+        if (names.isEmpty()) {
+            return 0;
+        }
+
+        // INSERT IGNORE INTO tag (name) VALUES (?1), (?2), ...
+        // 다른 요청이 같은 이름을 먼저 저장했다면 uk_tag_name 유니크 제약에 의해 해당 행만 무시됨
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 1; i <= names.size(); i++) {
+            values.add("(?" + i + ")");
+        }
+        Query query = entityManager.createNativeQuery("INSERT IGNORE INTO tag (name) VALUES " + values);
+
+        int position = 1;
+        for (String name : names) {
+            query.setParameter(position++, name);
+        }
+
+        // Tag 관련 캐시/쿼리 공간만 무효화되도록 동기화 대상 엔티티 지정 (tag 2차 캐시 영역과 tag 테이블을 조회한 쿼리 캐시 결과)
+        query.unwrap(NativeQuery.class).addSynchronizedEntityClass(Tag.class);
+        return query.executeUpdate();
+    }
+}
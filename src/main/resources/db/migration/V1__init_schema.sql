@@ -0,0 +1,107 @@
+-- 초기 스키마 (MySQL 8, 테이블 엔진/문자셋은 서버 기본값 InnoDB/utf8mb4 사용)
+-- 엔티티 매핑과 다르면 기동 시 Hibernate 스키마 검증(ddl-auto: validate)에서 실패하므로 엔티티를 바꿀 때 새 버전(V2__...)을 추가
+
+CREATE TABLE member (
+    member_id BIGINT       NOT NULL AUTO_INCREMENT,
+    name      VARCHAR(255),
+    age       INT          NOT NULL,
+    part      VARCHAR(20),
+    PRIMARY KEY (member_id)
+);
+
+CREATE TABLE post (
+    post_id    BIGINT       NOT NULL AUTO_INCREMENT,
+    title      VARCHAR(255) NOT NULL,
+    contents   TEXT         NOT NULL,
+    member_id  BIGINT       NOT NULL,
+    image_url  VARCHAR(768),
+    tag_status VARCHAR(20)  NOT NULL,
+    PRIMARY KEY (post_id)
+);
+
+CREATE TABLE tag (
+    tag_id BIGINT       NOT NULL AUTO_INCREMENT,
+    name   VARCHAR(255) NOT NULL,
+    PRIMARY KEY (tag_id),
+    CONSTRAINT uk_tag_name UNIQUE (name)
+);
+
+CREATE TABLE post_tag (
+    post_tag_id BIGINT NOT NULL,
+    post_id     BIGINT NOT NULL,
+    tag_id      BIGINT NOT NULL,
+    PRIMARY KEY (post_tag_id),
+    CONSTRAINT uk_post_tag_post_id_tag_id UNIQUE (post_id, tag_id)
+);
+
+-- PostTag id 채번 (MySQL에는 시퀀스가 없어 Hibernate가 테이블로 대신 사용, allocationSize 50)
+CREATE TABLE post_tag_seq (
+    next_val BIGINT
+);
+INSERT INTO post_tag_seq VALUES (1);
+
+CREATE TABLE tag_dictionary_version (
+    tag_dictionary_version_id BIGINT NOT NULL,
+    version                   BIGINT NOT NULL,
+    PRIMARY KEY (tag_dictionary_version_id)
+);
+
+CREATE TABLE pending_image_upload (
+    pending_image_upload_id BIGINT       NOT NULL AUTO_INCREMENT,
+    object_key              VARCHAR(512) NOT NULL,
+    created_at              TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (pending_image_upload_id),
+    CONSTRAINT uk_pending_image_upload_object_key UNIQUE (object_key)
+);
+
+CREATE TABLE book (
+    book_id           BIGINT        NOT NULL AUTO_INCREMENT,
+    page_no           INT           NOT NULL,
+    item_no           INT           NOT NULL,
+    title             VARCHAR(1000) NOT NULL,
+    alternative_title VARCHAR(1000) NOT NULL,
+    author            VARCHAR(1000) NOT NULL,
+    url               VARCHAR(2000) NOT NULL,
+    PRIMARY KEY (book_id),
+    CONSTRAINT uk_book_page_item UNIQUE (page_no, item_no)
+);
+
+CREATE TABLE book_catalog_page (
+    page_no       INT          NOT NULL,
+    content_hash  VARCHAR(64)  NOT NULL,
+    item_count    INT          NOT NULL,
+    etag          VARCHAR(512),
+    last_modified VARCHAR(64),
+    synced_at     TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (page_no)
+);
+
+CREATE TABLE book_catalog_sync_state (
+    book_catalog_sync_state_id BIGINT       NOT NULL,
+    started_at                 TIMESTAMP(6) NOT NULL,
+    completed_at               TIMESTAMP(6),
+    total_count                INT,
+    PRIMARY KEY (book_catalog_sync_state_id)
+);
+
+-- 게시글이 삭제되어도 남을 수 있는 계산 결과이므로 post 외래 키 없음 (다음 전체 재계산 시 정리)
+CREATE TABLE post_book_recommendation (
+    post_id     BIGINT       NOT NULL,
+    books       TEXT         NOT NULL,
+    computed_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (post_id)
+);
+
+-- 조회 인덱스 (외래 키보다 먼저 만들어 외래 키가 같은 인덱스를 사용하도록 함)
+-- 작성자별 게시글 keyset 조회 : WHERE member_id = ? AND post_id < ? ORDER BY post_id DESC
+CREATE INDEX idx_post_member_id ON post (member_id, post_id);
+-- 미등록 이미지 정리 시 게시글 등록 여부 확인 : WHERE image_url = ?
+CREATE INDEX idx_post_image_url ON post (image_url);
+-- 태그별 게시글 조회 : WHERE tag_id = ? (게시글별 태그 조회는 uk_post_tag_post_id_tag_id 사용)
+CREATE INDEX idx_post_tag_tag_id ON post_tag (tag_id, post_id);
+-- 오래된 미등록 이미지 조회 : WHERE created_at < ? ORDER BY created_at
+CREATE INDEX idx_pending_image_upload_created_at ON pending_image_upload (created_at);
+
+ALTER TABLE post ADD CONSTRAINT fk_post_member FOREIGN KEY (member_id) REFERENCES member (member_id);
+ALTER TABLE post_tag ADD CONSTRAINT fk_post_tag_post FOREIGN KEY (post_id) REFERENCES post (post_id);
+ALTER TABLE post_tag ADD CONSTRAINT fk_post_tag_tag FOREIGN KEY (tag_id) REFERENCES tag (tag_id);
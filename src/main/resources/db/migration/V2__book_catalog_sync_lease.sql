@@ -0,0 +1,3 @@
+-- 도서 카탈로그 동기화 실행 권한(lease) : 여러 인스턴스 중 lease를 얻은 인스턴스 하나만 동기화
+ALTER TABLE book_catalog_sync_state ADD COLUMN lease_owner VARCHAR(64);
+ALTER TABLE book_catalog_sync_state ADD COLUMN lease_until TIMESTAMP(6);
@@ -0,0 +1,133 @@
+package com.likelion.basecode;
+
+import com.likelion.basecode.common.exception.BusinessException;
+import com.likelion.basecode.member.api.dto.request.MemberUpdateRequestDto;
+import com.likelion.basecode.member.application.MemberService;
+import com.likelion.basecode.member.domain.Member;
+import com.likelion.basecode.member.domain.Part;
+import com.likelion.basecode.member.domain.repository.MemberRepository;
+import com.likelion.basecode.tag.api.dto.request.TagSaveRequestDto;
+import com.likelion.basecode.tag.api.dto.request.TagUpdateRequestDto;
+import com.likelion.basecode.tag.api.dto.response.TagInfoResponseDto;
+import com.likelion.basecode.tag.application.TagDictionary;
+import com.likelion.basecode.tag.application.TagService;
+import com.likelion.basecode.tag.domain.repository.TagRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Member/Tag 2차 캐시와 태그 목록 쿼리 캐시 : 반복 조회는 SQL 없이 처리하고, 수정/삭제가 커밋되면 바로 반영
+// 캐시는 커밋 시점에 갱신되므로 테스트 트랜잭션 없이 실행
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({MemberService.class, TagService.class, TagDictionary.class, SecondLevelCacheTest.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private TagService tagService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private TagRepository tagRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (String table : List.of("post_book_recommendation", "post_tag", "post", "tag", "member")) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+        // DB를 직접 비웠으므로 캐시도 함께 비움
+        entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void 사용자_PK_조회는_캐시에서_처리하고_수정과_삭제는_커밋되면_반영된다() {
+        Long memberId = new TransactionTemplate(transactionManager).execute(status -> memberRepository.save(
+                Member.builder().name("홍길동").age(20).part(Part.BACKEND).build()).getMemberId());
+        statistics.clear();
+
+        assertThat(memberService.memberFindOne(memberId).name()).isEqualTo("홍길동");
+        assertThat(memberService.memberFindOne(memberId).name()).isEqualTo("홍길동");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(2);
+
+        memberService.memberUpdate(memberId, new MemberUpdateRequestDto("김철수", 21));
+        statistics.clear();
+        assertThat(memberService.memberFindOne(memberId).name()).isEqualTo("김철수");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        memberService.memberDelete(memberId);
+        assertThatThrownBy(() -> memberService.memberFindOne(memberId)).isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void 태그_목록_조회는_쿼리_캐시에서_처리하고_태그가_수정되거나_추가되면_다시_조회한다() {
+        tagService.createTag(new TagSaveRequestDto("자바"));
+        Long tagId = tagRepository.findByNameIn(List.of("자바")).get(0).getId();
+        assertThat(tagNames()).containsExactly("자바");
+        statistics.clear();
+
+        assertThat(tagNames()).containsExactly("자바");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        tagService.tagUpdate(tagId, new TagUpdateRequestDto("스프링"));
+        assertThat(tagNames()).containsExactly("스프링");
+
+        // 게시물 저장의 INSERT IGNORE로 추가된 태그도 바로 목록에 반영
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                tagRepository.insertIgnoreAll(List.of("코틀린")));
+        assertThat(tagNames()).containsExactly("스프링", "코틀린");
+    }
+
+    private List<String> tagNames() {
+        return tagService.getAllTags().tags().stream()
+                .map(TagInfoResponseDto::name)
+                .toList();
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.likelion.basecode.book.api;
+
+import com.likelion.basecode.BasecodeApplication;
+import com.likelion.basecode.book.domain.repository.BookRepository;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// /books/recommendations 에 동시에 1,000개의 요청을 보내 플랫폼 스레드(Tomcat 기본 200개) 모드와 가상 스레드 모드 비교
+// - 태그 추천 API stub은 요청마다 50ms 후 응답하고, 게시글마다 본문이 달라 모든 요청이 태그 추천 API를 호출
+// - 동시 외부 호출 수는 스레드 수가 아니라 태그 추천 API 커넥션 풀/벌크헤드(MAX_TAG_API_CALLS)로 제한되어야 함
+// 실행 : ./gradlew loadTest (결과는 테스트 리포트의 report entry로 확인)
+@Tag("load")
+class BookRecommendationLoadTest {
+
+    private static final int REQUESTS = 1_000;
+    private static final int WARM_UP_REQUESTS = 100;
+    private static final int MAX_TAG_API_CALLS = 500;
+    private static final long TAG_API_DELAY_MS = 50;
+
+    private HttpServer stub;
+    private ExecutorService stubExecutor;
+    private ExecutorService clientExecutor;
+    private final AtomicInteger tagApiInFlight = new AtomicInteger();
+    private final AtomicInteger tagApiMaxInFlight = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubExecutor = Executors.newCachedThreadPool();
+        clientExecutor = Executors.newCachedThreadPool();
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 2_000);
+        stub.setExecutor(stubExecutor);
+        stub.createContext("/books", exchange -> respond(exchange, bookApiResponse()));
+        stub.createContext("/recommend", this::recommendTags);
+        stub.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.stop(0);
+        stubExecutor.shutdownNow();
+        clientExecutor.shutdownNow();
+    }
+
+    @Test
+    void 플랫폼_스레드와_가상_스레드의_p99_지연시간과_동시_처리량_비교(TestReporter testReporter) throws Exception {
+        LoadResult platform = run(false);
+        LoadResult virtual = run(true);
+
+        for (LoadResult result : List.of(platform, virtual)) {
+            testReporter.publishEntry(result.mode(), result.toString());
+            assertThat(result.statusCounts()).containsOnlyKeys(200);
+            // 스레드 수와 관계없이 외부 호출 동시성은 커넥션 풀/벌크헤드 한도를 넘지 않음
+            assertThat(result.tagApiMaxInFlight()).isLessThanOrEqualTo(MAX_TAG_API_CALLS);
+        }
+    }
+
+    private LoadResult run(boolean virtualThreads) throws Exception {
+        tagApiMaxInFlight.set(0);
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = start(mode, virtualThreads)) {
+            seedPosts(context.getBean(JdbcTemplate.class), mode);
+            awaitCatalog(context.getBean(BookRepository.class));
+            String baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+            try (HttpClient client = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(clientExecutor)
+                    .build()) {
+                // JIT/커넥션 풀 워밍업 (측정 대상과 다른 게시글 사용)
+                fire(client, baseUrl, REQUESTS + 1, WARM_UP_REQUESTS);
+                tagApiMaxInFlight.set(0);
+
+                List<Sample> samples = fire(client, baseUrl, 1, REQUESTS);
+                return LoadResult.of(mode, samples, tagApiMaxInFlight.get());
+            }
+        }
+    }
+
+    // 기동 직후 도서 API 동기화가 끝나 로컬 도서 저장소에 도서가 적재될 때까지 대기
+    private static void awaitCatalog(BookRepository bookRepository) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (bookRepository.count() == 0 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+    }
+
+    // firstPostId 부터 count 개의 게시글에 대한 추천 요청을 동시에 전송
+    private List<Sample> fire(HttpClient client, String baseUrl, int firstPostId, int count) {
+        List<CompletableFuture<Sample>> futures = new ArrayList<>(count);
+        for (int postId = firstPostId; postId < firstPostId + count; postId++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/books/recommendations?postId=" + postId))
+                    .timeout(Duration.ofSeconds(30))
+                    .build();
+            long startedAt = System.nanoTime();
+            futures.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, e) -> new Sample(
+                            response == null ? -1 : response.statusCode(),
+                            System.nanoTime() - startedAt)));
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private ConfigurableApplicationContext start(String mode, boolean virtualThreads) {
+        String stubUrl = "http://127.0.0.1:" + stub.getAddress().getPort();
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.threads.virtual.enabled", virtualThreads);
+        properties.put("spring.datasource.url",
+                "jdbc:h2:mem:load-" + mode + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.hikari.maximum-pool-size", 20);
+        properties.put("book-api.base-url", stubUrl + "/books");
+        properties.put("book-api.service-key", "load-test");
+        properties.put("tag.recommendation.api-url", stubUrl + "/recommend");
+        properties.put("http-client.tag-api.max-connections", MAX_TAG_API_CALLS);
+        properties.put("http-client.tag-api.connection-request-timeout-ms", 20_000);
+        properties.put("resilience.tag-api.max-concurrent-calls", MAX_TAG_API_CALLS);
+        properties.put("resilience.tag-api.max-wait-ms", 20_000);
+        properties.put("resilience.tag-api.slow-call-duration-ms", 20_000);
+        properties.put("cloud.aws.credentials.access-key", "load-test");
+        properties.put("cloud.aws.credentials.secret-key", "load-test");
+        properties.put("cloud.aws.region.static", "ap-northeast-2");
+        properties.put("cloud.aws.s3.bucket", "load-test");
+        properties.put("logging.level.root", "warn");
+
+        return new SpringApplicationBuilder(BasecodeApplication.class)
+                .profiles("test")
+                .properties(properties)
+                .run();
+    }
+
+    // 작성자 한 명과, 본문이 모두 달라 매번 태그 추천 API를 호출하는 태그 없는 게시글
+    private void seedPosts(JdbcTemplate jdbcTemplate, String mode) {
+        jdbcTemplate.update("INSERT INTO member (member_id, name, age, part) VALUES (1, ?, 20, 'BACKEND')", mode);
+        List<Object[]> posts = IntStream.rangeClosed(1, REQUESTS + WARM_UP_REQUESTS)
+                .mapToObj(postId -> new Object[]{postId, "제목" + postId, mode + " 자바 공부 " + postId})
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT INTO post (post_id, title, contents, member_id, tag_status) " +
+                "VALUES (?, ?, ?, 1, 'PENDING')", posts);
+    }
+
+    private void recommendTags(HttpExchange exchange) throws IOException {
+        tagApiMaxInFlight.accumulateAndGet(tagApiInFlight.incrementAndGet(), Math::max);
+        try {
+            exchange.getRequestBody().readAllBytes();
+            TimeUnit.MILLISECONDS.sleep(TAG_API_DELAY_MS);
+            respond(exchange, "{\"tags\": [\"자바\"]}");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            tagApiInFlight.decrementAndGet();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+
+    private static String bookApiResponse() {
+        String items = IntStream.range(0, 100)
+                .mapToObj(i -> """
+                        {"title": "title %d", "alternativeTitle": "자바 입문 %d", "author": "author", "url": "http://book.test/%d"}
+                        """.formatted(i, i, i))
+                .collect(Collectors.joining(","));
+        return "{\"response\": {\"body\": {\"items\": {\"item\": [" + items + "]}}}}";
+    }
+
+    private record Sample(int status, long latencyNanos) {
+    }
+
+    private record LoadResult(String mode, Map<Integer, Long> statusCounts,
+                              double p50Ms, double p99Ms, double maxMs, int tagApiMaxInFlight) {
+
+        static LoadResult of(String mode, List<Sample> samples, int tagApiMaxInFlight) {
+            long[] latencies = samples.stream().mapToLong(Sample::latencyNanos).sorted().toArray();
+            return new LoadResult(
+                    mode,
+                    samples.stream().collect(Collectors.groupingBy(Sample::status, Collectors.counting())),
+                    percentileMs(latencies, 0.50),
+                    percentileMs(latencies, 0.99),
+                    latencies[latencies.length - 1] / 1_000_000.0,
+                    tagApiMaxInFlight);
+        }
+
+        private static double percentileMs(long[] sortedLatencies, double percentile) {
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return "[%s] %d requests, status = %s, p50 = %.1fms, p99 = %.1fms, max = %.1fms, max concurrent tag API calls = %d"
+                    .formatted(mode, REQUESTS, statusCounts, p50Ms, p99Ms, maxMs, tagApiMaxInFlight);
+        }
+    }
+}
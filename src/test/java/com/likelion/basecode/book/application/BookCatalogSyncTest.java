@@ -0,0 +1,323 @@
+package com.likelion.basecode.book.application;
+
+import com.likelion.basecode.book.api.dto.response.BookPageResponseDto;
+import com.likelion.basecode.book.domain.BookCatalogSyncState;
+import com.likelion.basecode.book.domain.repository.BookCatalogPageRepository;
+import com.likelion.basecode.book.domain.repository.BookCatalogSyncStateRepository;
+import com.likelion.basecode.book.domain.repository.BookRepository;
+import com.likelion.basecode.book.domain.repository.PagedBook;
+import com.likelion.basecode.common.client.BookSearchClient;
+import com.likelion.basecode.common.client.TagRecommendationClient;
+import com.likelion.basecode.common.exception.BusinessException;
+import com.likelion.basecode.post.domain.repository.PostRepository;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// 페이지 단위로 응답하는 로컬 stub 도서 API를 H2 로컬 저장소로 동기화
+// stub은 페이지 내용(전체 도서 수, 페이지 버전)으로 ETag를 만들고 If-None-Match가 같으면 304로 응답
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({BookCatalogStore.class, BookSearchIndex.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookCatalogSyncTest {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int PARALLELISM = 3;
+    private static final long STUB_DELAY_MS = 30;
+    private static final long LEASE_MS = 60_000;
+
+    @Autowired
+    private BookCatalogStore bookCatalogStore;
+    @Autowired
+    private BookSearchIndex bookSearchIndex;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private BookCatalogPageRepository bookCatalogPageRepository;
+    @Autowired
+    private BookCatalogSyncStateRepository bookCatalogSyncStateRepository;
+
+    private HttpServer stub;
+    private volatile int totalCount;
+    private final Map<Integer, Integer> pageVersions = new ConcurrentHashMap<>();
+    private final Set<Integer> failingPages = ConcurrentHashMap.newKeySet();
+    private final Map<Integer, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+    private final AtomicInteger notModifiedCount = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private BookRecommendationStore bookRecommendationStore;
+    private BookCatalogSync sync;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        bookRepository.deleteAllInBatch();
+        bookCatalogPageRepository.deleteAllInBatch();
+        bookCatalogSyncStateRepository.deleteAllInBatch();
+        bookSearchIndex.rebuild(List.of());
+
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.createContext("/books", this::respondPage);
+        stub.start();
+
+        RateLimiter rateLimiter = RateLimiter.of("book-api", RateLimiterConfig.custom()
+                .limitForPeriod(1_000)
+                .limitRefreshPeriod(Duration.ofSeconds(1))
+                .timeoutDuration(Duration.ofSeconds(5))
+                .build());
+        BookSearchClient bookSearchClient = new BookSearchClient(new RestTemplate(),
+                CircuitBreaker.ofDefaults("book-api"), Bulkhead.ofDefaults("book-api"), rateLimiter,
+                "http://127.0.0.1:" + stub.getAddress().getPort() + "/books", "test-key",
+                new SimpleMeterRegistry());
+        bookRecommendationStore = mock(BookRecommendationStore.class);
+        sync = new BookCatalogSync(bookSearchClient, bookCatalogStore, bookRecommendationStore,
+                new SimpleMeterRegistry(), PAGE_SIZE, PARALLELISM, 1_000, LEASE_MS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.stop(0);
+    }
+
+    @Test
+    void 모든_페이지를_제한된_동시성으로_조회해_로컬_저장소에_저장한다() {
+        totalCount = 1_000;
+
+        BookCatalogSync.SyncResult result = sync.syncPages();
+
+        assertThat(result.completed()).isTrue();
+        assertThat(result.pageCount()).isEqualTo(10);
+        assertThat(result.changedPages()).isEqualTo(10);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(PARALLELISM);
+        List<PagedBook> books = bookRepository.findAllPagedBooks();
+        assertThat(books).hasSize(1_000);
+        assertThat(books.get(0).title()).isEqualTo("도서 1-0 v0");
+        assertThat(books.get(999).title()).isEqualTo("도서 10-99 v0");
+        assertThat(bookSearchIndex.size()).isEqualTo(1_000);
+        assertThat(bookCatalogSyncStateRepository.findById(BookCatalogSyncState.SINGLETON_ID))
+                .hasValueSatisfying(state -> assertThat(state.isInProgress()).isFalse());
+    }
+
+    @Test
+    void 실패한_페이지가_있으면_다음_동기화에서_확인하지_못한_페이지만_이어서_조회한다() {
+        totalCount = 500;
+        failingPages.add(3);
+
+        BookCatalogSync.SyncResult failed = sync.syncPages();
+
+        assertThat(failed.completed()).isFalse();
+        assertThat(failed.failedPages()).isEqualTo(1);
+        assertThat(bookRepository.count()).isEqualTo(400);
+
+        failingPages.clear();
+        requestCounts.clear();
+        BookCatalogSync.SyncResult resumed = sync.syncPages();
+
+        assertThat(resumed.completed()).isTrue();
+        // 첫 페이지(전체 도서 수 확인)와 실패했던 3 페이지만 다시 조회
+        assertThat(requestCounts.keySet()).containsExactlyInAnyOrder(1, 3);
+        assertThat(bookRepository.count()).isEqualTo(500);
+    }
+
+    @Test
+    void 변경되지_않은_페이지는_다시_쓰지_않고_사라진_페이지는_삭제한다() {
+        totalCount = 300;
+        sync.sync();
+        verify(bookRecommendationStore).recomputeAll();
+
+        // 2 페이지 내용만 바뀌고, 전체 도서 수가 줄어 3 페이지가 사라짐
+        pageVersions.put(2, 1);
+        totalCount = 200;
+        notModifiedCount.set(0);
+        BookCatalogSync.SyncResult result = sync.syncPages();
+
+        assertThat(result.changedPages()).isEqualTo(1);
+        assertThat(result.unchangedPages()).isEqualTo(1);
+        assertThat(result.deletedPages()).isEqualTo(1);
+        assertThat(bookRepository.findAllPagedBooks())
+                .extracting(PagedBook::title)
+                .contains("도서 1-0 v0", "도서 2-0 v1")
+                .hasSize(200);
+        assertThat(bookSearchIndex.size()).isEqualTo(200);
+
+        // 다시 동기화하면 모든 페이지가 304 응답
+        BookCatalogSync.SyncResult unchanged = sync.syncPages();
+        assertThat(unchanged.changedPages()).isZero();
+        assertThat(notModifiedCount.get()).isEqualTo(2);
+        assertThat(bookCatalogPageRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void 검색_색인이_로컬_저장소와_다르면_저장소_기준으로_다시_생성한다() {
+        totalCount = 200;
+        sync.syncPages();
+        bookSearchIndex.rebuild(List.of());
+
+        assertThat(bookCatalogStore.rebuildSearchIndexIfStale()).isTrue();
+        assertThat(bookSearchIndex.size()).isEqualTo(200);
+        assertThat(bookSearchIndex.search(List.of("자바"), 3)).hasSize(3);
+        assertThat(bookCatalogStore.rebuildSearchIndexIfStale()).isFalse();
+    }
+
+    @Test
+    void 첫_페이지를_조회하지_못하면_카탈로그를_갱신하지_않는다() {
+        totalCount = 300;
+        failingPages.add(1);
+
+        sync.sync();
+
+        assertThat(bookRepository.count()).isZero();
+        verify(bookRecommendationStore, never()).recomputeAll();
+    }
+
+    @Test
+    void 다른_인스턴스가_lease를_가진_동안에는_동기화하지_않고_만료되면_이어받는다() {
+        totalCount = 200;
+        Instant now = Instant.now();
+        assertThat(bookCatalogStore.tryAcquireLease("other-instance", now, now.plusMillis(LEASE_MS))).isTrue();
+
+        sync.sync();
+        assertThat(requestCounts).isEmpty();
+        assertThat(bookRepository.count()).isZero();
+
+        // 다른 인스턴스가 종료되어 lease가 만료된 경우
+        assertThat(bookCatalogStore.tryAcquireLease("other-instance", now, now.minusMillis(1))).isTrue();
+        sync.sync();
+        assertThat(bookRepository.count()).isEqualTo(200);
+        // 동기화가 끝나면 lease를 반납하므로 다른 인스턴스가 바로 얻을 수 있음
+        Instant later = Instant.now();
+        assertThat(bookCatalogStore.tryAcquireLease("other-instance", later, later.plusMillis(LEASE_MS))).isTrue();
+    }
+
+    @Test
+    void lease를_얻지_못한_인스턴스도_검색_색인을_로컬_저장소_기준으로_다시_생성한다() {
+        totalCount = 200;
+        sync.syncPages();
+        // 다른 인스턴스가 동기화한 카탈로그가 이 인스턴스의 색인에는 반영되지 않은 상태 (도서 수는 같음)
+        bookSearchIndex.rebuild(bookRepository.findAllPagedBooks().stream()
+                .map(book -> new PagedBook(book.pageNo(), book.itemNo(), book.title(), "이전 도서",
+                        book.author(), book.url()))
+                .toList());
+        assertThat(bookSearchIndex.search(List.of("자바"), 3)).isEmpty();
+        Instant now = Instant.now();
+        assertThat(bookCatalogStore.tryAcquireLease("other-instance", now, now.plusMillis(LEASE_MS))).isTrue();
+        requestCounts.clear();
+
+        sync.sync();
+
+        // 외부 API 조회는 lease를 가진 인스턴스만, 색인 재생성은 모든 인스턴스에서
+        assertThat(requestCounts).isEmpty();
+        assertThat(bookSearchIndex.search(List.of("자바"), 3)).hasSize(3);
+        assertThat(bookSearchIndex.isVerified()).isTrue();
+    }
+
+    @Test
+    void 동기화한_도서를_API_순서대로_cursor_페이지로_조회한다() {
+        totalCount = 250;
+        sync.syncPages();
+        BookService bookService = new BookService(mock(PostRepository.class), mock(TagRecommendationClient.class),
+                bookRepository, bookRecommendationStore, new SimpleMeterRegistry());
+
+        List<String> titles = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            BookPageResponseDto page = bookService.fetchAllRecommendedBooks(cursor, BookService.MAX_PAGE_SIZE);
+            page.books().forEach(book -> titles.add(book.title()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // 도서 API 페이지 경계(100권)와 관계없이 (pageNo, itemNo) 순서로 빠짐없이 한 번씩 조회
+        assertThat(pages).isEqualTo(3);
+        assertThat(titles).hasSize(250).doesNotHaveDuplicates();
+        assertThat(titles.get(0)).isEqualTo("도서 1-0 v0");
+        assertThat(titles.get(100)).isEqualTo("도서 2-0 v0");
+        assertThat(titles.get(249)).isEqualTo("도서 3-49 v0");
+        assertThatThrownBy(() -> bookService.fetchAllRecommendedBooks("1-0", 10))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private void respondPage(HttpExchange exchange) throws IOException {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            Map<String, String> query = UriComponentsBuilder.fromUri(exchange.getRequestURI()).build()
+                    .getQueryParams().toSingleValueMap();
+            int pageNo = Integer.parseInt(query.get("pageNo"));
+            int pageSize = Integer.parseInt(query.get("numOfRows"));
+            requestCounts.computeIfAbsent(pageNo, key -> new AtomicInteger()).incrementAndGet();
+            TimeUnit.MILLISECONDS.sleep(STUB_DELAY_MS);
+
+            if (failingPages.contains(pageNo)) {
+                exchange.sendResponseHeaders(500, -1);
+                return;
+            }
+
+            int version = pageVersions.getOrDefault(pageNo, 0);
+            String etag = "\"" + totalCount + "-" + pageNo + "-v" + version + "\"";
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModifiedCount.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+
+            int from = (pageNo - 1) * pageSize;
+            String items = IntStream.range(from, Math.min(from + pageSize, totalCount))
+                    .mapToObj(i -> """
+                            {"title": "도서 %d-%d v%d", "alternativeTitle": "자바 %d", "author": "author", "url": "http://book.test/%d"}
+                            """.formatted(pageNo, i - from, version, i, i))
+                    .collect(Collectors.joining(","));
+            byte[] body = ("{\"response\": {\"body\": {\"totalCount\": " + totalCount +
+                    ", \"items\": {\"item\": [" + items + "]}}}}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("ETag", etag);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.likelion.basecode.book.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.basecode.book.api.dto.response.BookResponseDto;
+import com.likelion.basecode.book.domain.repository.PagedBook;
+import com.likelion.basecode.member.domain.Member;
+import com.likelion.basecode.member.domain.Part;
+import com.likelion.basecode.member.domain.repository.MemberRepository;
+import com.likelion.basecode.post.application.PostTaggingService;
+import com.likelion.basecode.post.application.PostTagsChangedEvent;
+import com.likelion.basecode.post.domain.Post;
+import com.likelion.basecode.post.domain.repository.PostRepository;
+import com.likelion.basecode.tag.api.dto.request.TagUpdateRequestDto;
+import com.likelion.basecode.tag.application.TagDictionary;
+import com.likelion.basecode.tag.application.TagService;
+import com.likelion.basecode.tag.domain.repository.TagRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 게시물 태그 변경(태그 등록, 태그 이름 변경/삭제)과 카탈로그 변경 시 미리 계산된 추천 도서의 무효화/재계산
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({BookRecommendationStore.class, BookSearchIndex.class, PostTaggingService.class, TagService.class,
+        TagDictionary.class, BookRecommendationStoreTest.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookRecommendationStoreTest {
+
+    @Autowired
+    private BookRecommendationStore store;
+    @Autowired
+    private BookSearchIndex bookSearchIndex;
+    @Autowired
+    private PostTaggingService postTaggingService;
+    @Autowired
+    private TagService tagService;
+    @Autowired
+    private TagDictionary tagDictionary;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private TagRepository tagRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    @Qualifier("bookRecommendationExecutor")
+    private ExecutorService executor;
+
+    private TransactionTemplate transactionTemplate;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        for (String table : List.of("post_book_recommendation", "post_tag", "post", "tag", "member")) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+        tagDictionary.reload();
+        bookSearchIndex.rebuild(List.of(
+                book(1, "자바의 정석"),
+                book(1, "스프링 입문"),
+                book(1, "파이썬 기초")));
+
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        postId = transactionTemplate.execute(status -> {
+            Member member = memberRepository.save(Member.builder().name("홍길동").age(20).part(Part.BACKEND).build());
+            return postRepository.save(Post.builder().title("제목").contents("내용").member(member).build()).getPostId();
+        });
+    }
+
+    @Test
+    void 태그_등록이_커밋되면_추천_도서를_미리_계산한다() throws Exception {
+        postTaggingService.completeTagging(postId, "내용", List.of("자바"));
+        awaitRecompute();
+
+        assertThat(store.find(postId)).hasValueSatisfying(books ->
+                assertThat(books).extracting(BookResponseDto::alternativeTitle).containsExactly("자바의 정석"));
+    }
+
+    @Test
+    void 태그_이름이_바뀌거나_태그가_삭제되면_등록된_게시물의_추천_도서를_다시_계산한다() throws Exception {
+        postTaggingService.completeTagging(postId, "내용", List.of("자바"));
+        awaitRecompute();
+        Long tagId = tagRepository.findByNameIn(List.of("자바")).get(0).getId();
+
+        tagService.tagUpdate(tagId, new TagUpdateRequestDto("스프링"));
+        awaitRecompute();
+        assertThat(store.find(postId)).hasValueSatisfying(books ->
+                assertThat(books).extracting(BookResponseDto::alternativeTitle).containsExactly("스프링 입문"));
+
+        tagService.tagDelete(tagId);
+        awaitRecompute();
+        assertThat(store.find(postId)).isEmpty();
+    }
+
+    @Test
+    void 무효화는_태그를_변경한_트랜잭션과_함께_롤백된다() {
+        store.putIfAbsent(postId, List.of(new BookResponseDto("t", "자바의 정석", "a", "u")));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(PostTagsChangedEvent.of(postId));
+            status.setRollbackOnly();
+        });
+
+        assertThat(store.find(postId)).isPresent();
+    }
+
+    @Test
+    void 요청_시점의_결과는_이미_계산된_결과를_덮어쓰지_않는다() throws Exception {
+        postTaggingService.completeTagging(postId, "내용", List.of("자바"));
+        awaitRecompute();
+
+        store.putIfAbsent(postId, List.of());
+
+        assertThat(store.find(postId)).hasValueSatisfying(books -> assertThat(books).hasSize(1));
+    }
+
+    @Test
+    void 조회_요청에서_계산한_추천_도서는_백그라운드에서_저장한다() throws Exception {
+        store.putIfAbsentAsync(postId, List.of(new BookResponseDto("t", "자바의 정석", "a", "u")));
+        awaitRecompute();
+
+        assertThat(store.find(postId)).hasValueSatisfying(books -> assertThat(books).hasSize(1));
+    }
+
+    @Test
+    void 태그_변경이_커밋된_게시물은_잠시_동안_primary에서_조회하도록_표시한다() throws Exception {
+        assertThat(store.changedRecently(postId)).isFalse();
+
+        postTaggingService.completeTagging(postId, "내용", List.of("자바"));
+        awaitRecompute();
+
+        assertThat(store.changedRecently(postId)).isTrue();
+    }
+
+    @Test
+    void 카탈로그가_바뀌면_태그가_있는_게시물은_다시_계산하고_태그가_없는_게시물의_결과는_삭제한다() throws Exception {
+        postTaggingService.completeTagging(postId, "내용", List.of("자바"));
+        awaitRecompute();
+        Long untaggedPostId = transactionTemplate.execute(status -> postRepository.save(Post.builder()
+                .title("제목").contents("내용").member(memberRepository.findAll().get(0)).build()).getPostId());
+        store.putIfAbsent(untaggedPostId, List.of(new BookResponseDto("t", "자바의 정석", "a", "u")));
+
+        bookSearchIndex.rebuild(List.of(book(1, "자바 ORM 표준 JPA 프로그래밍"), book(1, "자바의 정석")));
+        int recomputed = store.recomputeAll();
+
+        assertThat(recomputed).isEqualTo(1);
+        assertThat(store.find(postId)).hasValueSatisfying(books -> assertThat(books).hasSize(2));
+        assertThat(store.find(untaggedPostId)).isEmpty();
+    }
+
+    // 커밋 후 재계산 작업이 모두 끝날 때까지 대기 (단일 스레드 executor)
+    private void awaitRecompute() throws Exception {
+        executor.submit(() -> { }).get();
+    }
+
+    private static PagedBook book(int pageNo, String alternativeTitle) {
+        return new PagedBook(pageNo, 0, "title", alternativeTitle, "author", "http://book.test/" + alternativeTitle);
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+
+        @Bean(destroyMethod = "shutdownNow")
+        ExecutorService bookRecommendationExecutor() {
+            return Executors.newSingleThreadExecutor();
+        }
+    }
+}
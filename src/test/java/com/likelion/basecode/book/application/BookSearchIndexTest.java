@@ -0,0 +1,144 @@
+package com.likelion.basecode.book.application;
+
+import com.likelion.basecode.book.api.dto.response.BookResponseDto;
+import com.likelion.basecode.book.domain.repository.PagedBook;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookSearchIndexTest {
+
+    @TempDir
+    Path indexDir;
+
+    private BookSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index = new BookSearchIndex(indexDir.toString());
+        index.replacePage(1, List.of(
+                book("Java Basics", "자바의 정석"),
+                book("Spring in Action", "스프링 인 액션"),
+                book("Spring with Java", "자바와 스프링")));
+        index.replacePage(2, List.of(
+                book("자바 프로그래밍", "프로그래밍 입문"),
+                book("역사의 이해", "세계사")));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    void 조사가_붙은_제목도_형태소_단위로_검색한다() {
+        assertThat(index.search(List.of("자바"), 10)).extracting(BookResponseDto::title)
+                .containsExactlyInAnyOrder("Java Basics", "Spring with Java", "자바 프로그래밍");
+        assertThat(index.search(List.of("역사"), 10)).extracting(BookResponseDto::title)
+                .containsExactly("역사의 이해");
+    }
+
+    @Test
+    void 일치한_태그가_많은_도서와_alternativeTitle에서_일치한_도서를_먼저_반환한다() {
+        index.replacePage(3, List.of(
+                book("도커 실전", "운영 가이드"),
+                book("Container Guide", "도커 실전")));
+
+        assertThat(index.search(List.of("스프링", "자바"), 10).get(0).title()).isEqualTo("Spring with Java");
+        assertThat(index.search(List.of("도커"), 10)).extracting(BookResponseDto::title)
+                .containsExactly("Container Guide", "도커 실전");
+    }
+
+    @Test
+    void 영문은_대소문자를_구분하지_않고_자모가_분리된_태그도_같은_태그로_취급한다() {
+        assertThat(index.search(List.of("SPRING"), 10)).hasSize(2);
+        assertThat(index.search(List.of(Normalizer.normalize("자바", Normalizer.Form.NFD)), 10)).hasSize(3);
+    }
+
+    @Test
+    void 일치하는_도서가_없거나_빈_태그라면_빈_목록을_반환한다() {
+        assertThat(index.search(List.of("쿠버네티스", " "), 3)).isEmpty();
+        assertThat(index.search(List.of(), 3)).isEmpty();
+    }
+
+    @Test
+    void 페이지_단위로_교체하고_마지막_페이지_이후는_삭제한다() {
+        index.replacePage(1, List.of(book("Kotlin in Action", "코틀린 인 액션")));
+        assertThat(index.search(List.of("스프링"), 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+
+        index.deletePagesAfter(1);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search(List.of("역사"), 10)).isEmpty();
+    }
+
+    @Test
+    void 디스크에_저장된_색인은_다시_열어도_유지되고_저장소_기준으로_다시_생성할_수_있다() throws IOException {
+        index.close();
+        index = new BookSearchIndex(indexDir.toString());
+
+        assertThat(index.size()).isEqualTo(5);
+        assertThat(index.search(List.of("역사"), 10)).extracting(BookResponseDto::url)
+                .containsExactly("http://book.test/역사의 이해");
+
+        index.rebuild(List.of(new PagedBook(1, 0, "Clean Code", "클린 코드", "author", "http://book.test/clean")));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search(List.of("코드"), 10)).extracting(BookResponseDto::title).containsExactly("Clean Code");
+    }
+
+    @Test
+    void 페이지_교체는_검색에_바로_반영하고_디스크에는_commitUpdates에서_한_번에_커밋한다() throws IOException {
+        assertThat(committedSize()).isZero();
+
+        index.commitUpdates("v1");
+
+        assertThat(committedSize()).isEqualTo(5);
+    }
+
+    @Test
+    void 동기화_중_커밋하지_못하고_종료된_색인은_다시_열면_미완료로_표시한다(@TempDir Path copyDir) throws IOException {
+        index.beginUpdates();
+        index.replacePage(3, List.of(book("도커 실전", "운영 가이드")));
+        // 커밋되지 않은 변경이 있는 상태의 색인 디렉터리 복사 (비정상 종료 후 남은 파일)
+        try (var files = Files.list(indexDir)) {
+            for (Path file : files.filter(file -> !file.getFileName().toString().equals("write.lock")).toList()) {
+                Files.copy(file, copyDir.resolve(file.getFileName()));
+            }
+        }
+
+        BookSearchIndex crashed = new BookSearchIndex(copyDir.toString());
+        try {
+            assertThat(crashed.isIncomplete()).isTrue();
+            assertThat(crashed.size()).isEqualTo(5);
+            crashed.rebuild(List.of(new PagedBook(1, 0, "Clean Code", "클린 코드", "author", "http://book.test/clean")));
+            assertThat(crashed.isIncomplete()).isFalse();
+        } finally {
+            crashed.close();
+        }
+        assertThat(index.isIncomplete()).isFalse();
+    }
+
+    // 디스크에 마지막으로 커밋된 색인의 도서 수
+    private int committedSize() throws IOException {
+        try (Directory directory = FSDirectory.open(indexDir); DirectoryReader reader = DirectoryReader.open(directory)) {
+            return reader.numDocs();
+        }
+    }
+
+    private static BookResponseDto book(String title, String alternativeTitle) {
+        return new BookResponseDto(title, alternativeTitle, "author", "http://book.test/" + title);
+    }
+}
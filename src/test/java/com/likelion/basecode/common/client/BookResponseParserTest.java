@@ -0,0 +1,73 @@
+package com.likelion.basecode.common.client;
+
+import com.likelion.basecode.book.api.dto.response.BookResponseDto;
+import com.likelion.basecode.common.error.ErrorCode;
+import com.likelion.basecode.common.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BookResponseParserTest {
+
+    @Test
+    void item_배열의_필요한_필드만_읽고_나머지_필드는_건너뛴다() throws IOException {
+        List<BookResponseDto> books = parse("""
+                {"response": {"header": {"resultCode": "00", "resultMsg": "OK"},
+                  "body": {"numOfRows": 2, "pageNo": 1, "totalCount": 2, "items": {"item": [
+                    {"title": "Java", "publisher": {"name": "출판사", "tags": ["a", "b"]}, "alternativeTitle": "자바의 정석",
+                     "author": "남궁성", "url": "http://book.test/1", "issuedDate": 2016},
+                    {"title": "Spring", "alternativeTitle": "토비의 스프링", "author": null}
+                  ]}}}}
+                """);
+
+        assertThat(books).containsExactly(
+                new BookResponseDto("Java", "자바의 정석", "남궁성", "http://book.test/1"),
+                new BookResponseDto("Spring", "토비의 스프링", "", ""));
+    }
+
+    @Test
+    void 도서가_한_권이면_객체로_온_item도_목록으로_변환한다() throws IOException {
+        List<BookResponseDto> books = parse("""
+                {"response": {"body": {"items": {"item":
+                  {"title": "Java", "alternativeTitle": "자바의 정석", "author": "남궁성", "url": "http://book.test/1"}
+                }}}}
+                """);
+
+        assertThat(books).extracting(BookResponseDto::alternativeTitle).containsExactly("자바의 정석");
+    }
+
+    @Test
+    void items_뒤에_오는_totalCount도_읽는다() throws IOException {
+        BookResponseParser.ParsedBooks parsed = BookResponseParser.parse(new ByteArrayInputStream("""
+                {"response": {"body": {"items": {"item": [{"title": "Java"}], "extra": 1}, "totalCount": 1234}}}
+                """.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(parsed.totalCount()).isEqualTo(1234);
+        assertThat(parsed.books()).extracting(BookResponseDto::title).containsExactly("Java");
+    }
+
+    @Test
+    void 형식이_잘못된_응답은_위치에_맞는_에러_코드로_실패한다() {
+        assertMalformed("", ErrorCode.BOOK_API_RESPONSE_NULL);
+        assertMalformed("{\"response\": {\"header\": {}}}", ErrorCode.BOOK_API_BODY_MALFORMED);
+        assertMalformed("{\"response\": {\"body\": {\"items\": \"\"}}}", ErrorCode.BOOK_API_ITEMS_MALFORMED);
+        assertMalformed("{\"response\": {\"body\": {\"items\": {\"item\": \"x\"}}}}", ErrorCode.BOOK_API_ITEM_MALFORMED);
+        assertMalformed("{\"response\": {\"body\": {\"items\": {\"item\": [{\"title\": ", ErrorCode.BOOK_API_BODY_MALFORMED);
+    }
+
+    private static void assertMalformed(String json, ErrorCode errorCode) {
+        assertThatThrownBy(() -> parse(json))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(errorCode);
+    }
+
+    private static List<BookResponseDto> parse(String json) throws IOException {
+        return BookResponseParser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))).books();
+    }
+}
@@ -0,0 +1,101 @@
+package com.likelion.basecode.common.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class TagRecommendationClientTest {
+
+    private static final String API_URL = "http://tag-api.test/recommend";
+    private static final String TAGS_RESPONSE = "{\"tags\": [\"자바\", \"스프링\"]}";
+
+    private MockRestServiceServer tagApi;
+    private SimpleMeterRegistry meterRegistry;
+    private TagRecommendationClient client;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        tagApi = MockRestServiceServer.bindTo(restTemplate).build();
+        meterRegistry = new SimpleMeterRegistry();
+        client = new TagRecommendationClient(restTemplate, CircuitBreaker.ofDefaults("tag-api"),
+                Bulkhead.ofDefaults("tag-api"), API_URL, 100, 60_000, meterRegistry);
+    }
+
+    @Test
+    void 같은_contents는_한_번만_외부_API를_호출한다() {
+        tagApi.expect(once(), requestTo(API_URL))
+                .andRespond(withSuccess(TAGS_RESPONSE, MediaType.APPLICATION_JSON));
+
+        List<String> first = client.getRecommendedTags("자바 스프링 공부");
+        List<String> second = client.getRecommendedTags("자바 스프링 공부");
+
+        tagApi.verify();
+        assertThat(first).containsExactly("자바", "스프링");
+        assertThat(second).isEqualTo(first);
+        assertThat(meterRegistry.get("tag.recommendation.calls.saved").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("tag.recommendation.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    void 동시에_들어온_같은_contents_요청은_하나의_외부_호출을_공유한다() throws Exception {
+        CountDownLatch requestStarted = new CountDownLatch(1);
+        CountDownLatch releaseResponse = new CountDownLatch(1);
+        tagApi.expect(once(), requestTo(API_URL))
+                .andRespond(request -> {
+                    requestStarted.countDown();
+                    awaitLatch(releaseResponse);
+                    return withSuccess(TAGS_RESPONSE, MediaType.APPLICATION_JSON).createResponse(request);
+                });
+
+        CompletableFuture<List<String>> first = CompletableFuture.supplyAsync(() -> client.getRecommendedTags("같은 본문"));
+        assertThat(requestStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<List<String>> second = CompletableFuture.supplyAsync(() -> client.getRecommendedTags("같은 본문"));
+        releaseResponse.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).containsExactly("자바", "스프링");
+        assertThat(second.get(5, TimeUnit.SECONDS)).containsExactly("자바", "스프링");
+        tagApi.verify();
+    }
+
+    @Test
+    void 실패한_호출은_캐시하지_않는다() {
+        tagApi.expect(once(), requestTo(API_URL))
+                .andRespond(withStatus(HttpStatus.BAD_GATEWAY));
+        tagApi.expect(once(), requestTo(API_URL))
+                .andRespond(withSuccess(TAGS_RESPONSE, MediaType.APPLICATION_JSON));
+
+        assertThatThrownBy(() -> client.getRecommendedTags("본문"))
+                .isInstanceOf(HttpServerErrorException.class);
+        assertThat(client.getRecommendedTags("본문")).containsExactly("자바", "스프링");
+        tagApi.verify();
+        assertThat(meterRegistry.get("external.api.calls").tag("outcome", "failure").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("external.api.calls").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.likelion.basecode.common.config;
+
+import com.likelion.basecode.common.client.TagRecommendationClient;
+import com.likelion.basecode.common.error.ErrorCode;
+import com.likelion.basecode.common.exception.BusinessException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 장애를 주입할 수 있는 로컬 stub 서버로 태그 추천 API의 서킷 브레이커/벌크헤드 동작 확인
+class ResilienceConfigTest {
+
+    private enum Fault { NONE, ERROR, STALL }
+
+    private HttpServer stub;
+    private volatile Fault fault = Fault.NONE;
+    private final AtomicInteger stubCalls = new AtomicInteger();
+    private final CountDownLatch releaseStall = new CountDownLatch(1);
+
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private BulkheadRegistry bulkheadRegistry;
+    private String apiUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.createContext("/recommend", this::handle);
+        stub.start();
+        apiUrl = "http://127.0.0.1:" + stub.getAddress().getPort() + "/recommend";
+
+        meterRegistry = new SimpleMeterRegistry();
+        ResilienceConfig resilienceConfig = new ResilienceConfig();
+        circuitBreakerRegistry = resilienceConfig.circuitBreakerRegistry(meterRegistry);
+        bulkheadRegistry = resilienceConfig.bulkheadRegistry(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseStall.countDown();
+        stub.stop(0);
+    }
+
+    @Test
+    void 실패가_누적되면_서킷이_열려_호출_없이_바로_실패하고_half_open_확인_후_다시_닫힌다() throws Exception {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("tag-api",
+                ResilienceConfig.circuitBreakerConfig(50, 1_000, 4, 200, 1));
+        TagRecommendationClient client = client(circuitBreaker, Bulkhead.ofDefaults("tag-api"));
+
+        fault = Fault.ERROR;
+        for (int i = 0; i < 4; i++) {
+            int attempt = i;
+            assertThatThrownBy(() -> client.getRecommendedTags("본문 " + attempt))
+                    .isInstanceOf(HttpServerErrorException.class);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        // open 상태에서는 stub을 호출하지 않고 바로 실패
+        assertThatThrownBy(() -> client.getRecommendedTags("본문 open"))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.TAG_API_UNAVAILABLE));
+        assertThat(stubCalls.get()).isEqualTo(4);
+
+        // 대기 시간이 지나면 half-open 상태에서 한 번 호출해 보고, 성공하면 다시 닫힘
+        fault = Fault.NONE;
+        Thread.sleep(300);
+        assertThat(client.getRecommendedTags("본문 회복")).containsExactly("자바");
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        assertThat(transitions("CLOSED", "OPEN")).isEqualTo(1);
+        assertThat(transitions("OPEN", "HALF_OPEN")).isEqualTo(1);
+        assertThat(transitions("HALF_OPEN", "CLOSED")).isEqualTo(1);
+        assertThat(externalCalls("failure")).isEqualTo(4);
+        assertThat(externalCalls("rejected")).isEqualTo(1);
+        assertThat(externalCalls("success")).isEqualTo(1);
+    }
+
+    @Test
+    void 동시_호출_수를_넘으면_외부_API가_멈춰_있어도_바로_실패한다() throws Exception {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead("tag-api", ResilienceConfig.bulkheadConfig(1, 0));
+        TagRecommendationClient client = client(CircuitBreaker.ofDefaults("tag-api"), bulkhead);
+
+        fault = Fault.STALL;
+        CompletableFuture<List<String>> stalled = CompletableFuture.supplyAsync(() -> client.getRecommendedTags("멈춘 요청"));
+        while (stubCalls.get() == 0) {
+            Thread.sleep(10);
+        }
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> client.getRecommendedTags("다른 요청"))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.TAG_API_BUSY));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(500);
+
+        releaseStall.countDown();
+        assertThat(stalled.get(5, TimeUnit.SECONDS)).containsExactly("자바");
+    }
+
+    private TagRecommendationClient client(CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(1_000);
+        requestFactory.setReadTimeout(5_000);
+        return new TagRecommendationClient(new RestTemplate(requestFactory), circuitBreaker, bulkhead,
+                apiUrl, 100, 60_000, meterRegistry);
+    }
+
+    // 외부 API 호출 결과별 횟수
+    private long externalCalls(String outcome) {
+        return meterRegistry.get("external.api.calls")
+                .tag("client", "tag-api")
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+
+    private double transitions(String from, String to) {
+        return meterRegistry.get("resilience4j.circuitbreaker.transitions")
+                .tag("name", "tag-api")
+                .tag("from", from)
+                .tag("to", to)
+                .counter().count();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        stubCalls.incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+        try {
+            if (fault == Fault.ERROR) {
+                exchange.sendResponseHeaders(500, -1);
+                return;
+            }
+            if (fault == Fault.STALL) {
+                releaseStall.await(5, TimeUnit.SECONDS);
+            }
+            byte[] body = "{\"tags\": [\"자바\"]}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.likelion.basecode.common.config;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 응답하지 않는(멈춘) 로컬 stub 서버에 동시에 많은 요청을 보내도
+// 커넥션 수는 풀 크기로 제한되고, 호출한 스레드는 타임아웃 안에 모두 풀려나는지 확인
+class RestTemplateConfigTest {
+
+    private static final int MAX_CONNECTIONS = 4;
+    private static final int CALLERS = 50;
+    private static final long READ_TIMEOUT_MS = 300;
+    private static final long CONNECTION_REQUEST_TIMEOUT_MS = 100;
+
+    private HttpServer stub;
+    private final CountDownLatch releaseStub = new CountDownLatch(1);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private CloseableHttpClient httpClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.createContext("/stall", exchange -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                releaseStub.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+                exchange.close();
+            }
+        });
+        stub.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        httpClient = RestTemplateConfig.pooledHttpClient("stub", MAX_CONNECTIONS, 500,
+                CONNECTION_REQUEST_TIMEOUT_MS, READ_TIMEOUT_MS, 30_000, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        releaseStub.countDown();
+        httpClient.close();
+        stub.stop(0);
+    }
+
+    @Test
+    void 멈춘_서버에_대한_호출은_풀_크기만큼만_연결되고_타임아웃_안에_실패한다() throws Exception {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        String url = "http://127.0.0.1:" + stub.getAddress().getPort() + "/stall";
+
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        List<Future<Throwable>> results = new ArrayList<>();
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(callers.submit(() -> {
+                try {
+                    restTemplate.getForObject(url, String.class);
+                    return null;
+                } catch (RuntimeException e) {
+                    return e;
+                }
+            }));
+        }
+
+        for (Future<Throwable> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isInstanceOf(ResourceAccessException.class);
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        callers.shutdown();
+
+        // 동시에 열린 커넥션은 풀 크기 이하, 나머지 호출은 풀 대기 시간 초과로 바로 실패
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(MAX_CONNECTIONS);
+        // 모든 호출 스레드는 (풀 대기 + 응답 대기) 수준의 시간 안에 풀려남 (stub은 10초 동안 응답하지 않음)
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(3));
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.max").tag("httpclient", "stub")
+                .gauge().value()).isEqualTo(MAX_CONNECTIONS);
+    }
+}
@@ -0,0 +1,202 @@
+package com.likelion.basecode.common.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.Cookie;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// primary/replica 역할의 H2 DB 두 개로 라우팅 확인 (각 DB의 node 테이블에 자신의 이름 저장)
+// JDBC(DataSourceTransactionManager)와 애플리케이션이 사용하는 JPA(JpaTransactionManager) 트랜잭션 모두 확인
+class ReadWriteRoutingDataSourceTest {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private ReplicaLagMonitor replicaLagMonitor;
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        // 복제 지연 (MySQL의 SHOW REPLICA STATUS 대신 테스트에서 직접 지정)
+        new JdbcTemplate(replica).execute("CREATE TABLE replica_status (seconds_behind_source BIGINT)");
+        new JdbcTemplate(replica).update("INSERT INTO replica_status VALUES (0)");
+        replicaLagMonitor = new ReplicaLagMonitor(replica, "SELECT seconds_behind_source FROM replica_status",
+                "seconds_behind_source", 2000, new SimpleMeterRegistry());
+        replicaLagMonitor.check();
+
+        dataSource = new ReadWriteRoutingDataSource(primary, replica, replicaLagMonitor, new SimpleMeterRegistry());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        DataSourceRouting.clear();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_replica로_그_외에는_primary로_보낸다() {
+        assertThat(node(readOnly)).isEqualTo("replica");
+        assertThat(node(readWrite)).isEqualTo("primary");
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM node", String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    void 복제_지연이_기준을_넘거나_확인할_수_없으면_읽기도_primary로_보낸다() {
+        setLag(10L);
+        assertThat(node(readOnly)).isEqualTo("primary");
+
+        setLag(1L);
+        assertThat(node(readOnly)).isEqualTo("replica");
+
+        setLag(null);
+        assertThat(node(readOnly)).isEqualTo("primary");
+
+        new JdbcTemplate(replica).execute("DROP TABLE replica_status");
+        replicaLagMonitor.check();
+        assertThat(node(readOnly)).isEqualTo("primary");
+    }
+
+    @Test
+    void 쓰기_이후의_읽기는_같은_요청과_쿠키가_유효한_다음_요청에서_primary로_보낸다() throws Exception {
+        PrimaryStickinessFilter filter = new PrimaryStickinessFilter(5000);
+        List<String> nodes = new ArrayList<>();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest(), response, (req, res) -> {
+            nodes.add(node(readOnly));
+            readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+            nodes.add(node(readOnly));
+        });
+        Cookie cookie = response.getCookie(PrimaryStickinessFilter.COOKIE_NAME);
+        assertThat(nodes).containsExactly("replica", "primary");
+        assertThat(cookie).isNotNull();
+
+        MockHttpServletRequest stickyRequest = new MockHttpServletRequest();
+        stickyRequest.setCookies(cookie);
+        filter.doFilter(stickyRequest, new MockHttpServletResponse(), (req, res) -> nodes.add(node(readOnly)));
+
+        MockHttpServletRequest expiredRequest = new MockHttpServletRequest();
+        expiredRequest.setCookies(new Cookie(PrimaryStickinessFilter.COOKIE_NAME, "1"));
+        filter.doFilter(expiredRequest, new MockHttpServletResponse(), (req, res) -> nodes.add(node(readOnly)));
+
+        assertThat(nodes).containsExactly("replica", "primary", "primary", "replica");
+    }
+
+    @Test
+    void onPrimary_안의_읽기는_primary로_보낸다() {
+        assertThat(DataSourceRouting.onPrimary(() -> node(readOnly))).isEqualTo("primary");
+        assertThat(node(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void JPA_트랜잭션도_읽기_전용이면_replica로_그_외에는_primary로_보낸다() {
+        LocalContainerEntityManagerFactoryBean factoryBean = entityManagerFactory(new HibernateJpaDialect());
+        try {
+            EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+            EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+            JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+            TransactionTemplate jpaReadWrite = new TransactionTemplate(transactionManager);
+            TransactionTemplate jpaReadOnly = new TransactionTemplate(transactionManager);
+            jpaReadOnly.setReadOnly(true);
+
+            assertThat(node(jpaReadOnly, entityManager)).isEqualTo("replica");
+            assertThat(node(jpaReadWrite, entityManager)).isEqualTo("primary");
+            assertThat(DataSourceRouting.onPrimary(() -> node(jpaReadOnly, entityManager))).isEqualTo("primary");
+        } finally {
+            factoryBean.destroy();
+        }
+    }
+
+    @Test
+    void replica에서_읽을_수_있는_JPA_읽기_전용_트랜잭션은_2차_캐시에_저장하지_않는다() {
+        LocalContainerEntityManagerFactoryBean factoryBean = entityManagerFactory(new ReplicaAwareHibernateJpaDialect());
+        try {
+            EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+            EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+            JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+            TransactionTemplate jpaReadWrite = new TransactionTemplate(transactionManager);
+            TransactionTemplate jpaReadOnly = new TransactionTemplate(transactionManager);
+            jpaReadOnly.setReadOnly(true);
+
+            assertThat(cacheMode(jpaReadOnly, entityManager)).isEqualTo(CacheMode.GET);
+            assertThat(cacheMode(jpaReadWrite, entityManager)).isEqualTo(CacheMode.NORMAL);
+            assertThat(DataSourceRouting.onPrimary(() -> cacheMode(jpaReadOnly, entityManager)))
+                    .isEqualTo(CacheMode.NORMAL);
+        } finally {
+            factoryBean.destroy();
+        }
+    }
+
+    // 엔티티 없이 라우팅 DataSource를 사용하는 JPA 설정 (애플리케이션과 같은 Hibernate 트랜잭션 처리)
+    private LocalContainerEntityManagerFactoryBean entityManagerFactory(HibernateJpaDialect jpaDialect) {
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan(getClass().getPackageName());
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaDialect(jpaDialect);
+        factoryBean.afterPropertiesSet();
+        return factoryBean;
+    }
+
+    private CacheMode cacheMode(TransactionTemplate transactionTemplate, EntityManager entityManager) {
+        return transactionTemplate.execute(status -> entityManager.unwrap(Session.class).getCacheMode());
+    }
+
+    private String node(TransactionTemplate transactionTemplate, EntityManager entityManager) {
+        return transactionTemplate.execute(status ->
+                (String) entityManager.createNativeQuery("SELECT name FROM node").getSingleResult());
+    }
+
+    private String node(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private void setLag(Long seconds) {
+        new JdbcTemplate(replica).update("UPDATE replica_status SET seconds_behind_source = ?", seconds);
+        replicaLagMonitor.check();
+    }
+
+    private static EmbeddedDatabase database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+        return database;
+    }
+}
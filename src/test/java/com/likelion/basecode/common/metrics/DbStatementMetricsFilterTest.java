@@ -0,0 +1,49 @@
+package com.likelion.basecode.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DbStatementMetricsFilterTest {
+
+    private final DbStatementCounter counter = new DbStatementCounter();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DbStatementMetricsFilter filter = new DbStatementMetricsFilter(counter, meterRegistry);
+
+    @Test
+    void 요청_중에_실행된_SQL_문장_수를_URL_패턴별로_기록한다() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/post/1");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/post/{postId}");
+            counter.inspect("select 1");
+            counter.inspect("select 2");
+            counter.inspect("insert 3");
+        });
+
+        DistributionSummary statements = meterRegistry.get("http.server.requests.db.statements")
+                .tag("method", "GET")
+                .tag("uri", "/post/{postId}")
+                .summary();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    void 요청_밖에서_실행된_SQL은_집계하지_않는다() throws Exception {
+        counter.inspect("select 0");
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/unknown"), new MockHttpServletResponse(),
+                (req, res) -> counter.inspect("select 1"));
+        counter.inspect("select 2");
+
+        assertThat(meterRegistry.get("http.server.requests.db.statements").tag("uri", "UNKNOWN").summary()
+                .totalAmount()).isEqualTo(1);
+        assertThat(counter.stop()).isZero();
+    }
+}
@@ -0,0 +1,153 @@
+package com.likelion.basecode.common.s3;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import com.likelion.basecode.common.error.ErrorCode;
+import com.likelion.basecode.common.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// AmazonS3를 메모리에서 흉내 내어 S3로 전송된 바이트를 검증
+class S3UploaderTest {
+
+    private static final String BUCKET = "bucket";
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+
+    private AmazonS3 amazonS3;
+    private ByteArrayOutputStream uploaded;
+    private int partCount;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        amazonS3 = mock(AmazonS3.class);
+        uploaded = new ByteArrayOutputStream();
+        partCount = 0;
+
+        when(amazonS3.getUrl(eq(BUCKET), anyString()))
+                .thenAnswer(invocation -> new URL("https://bucket.s3.test/" + invocation.getArgument(1)));
+        when(amazonS3.putObject(eq(BUCKET), anyString(), any(InputStream.class), any(ObjectMetadata.class)))
+                .thenAnswer(invocation -> {
+                    ((InputStream) invocation.getArgument(2)).transferTo(uploaded);
+                    return null;
+                });
+
+        InitiateMultipartUploadResult initiated = new InitiateMultipartUploadResult();
+        initiated.setUploadId("upload-1");
+        when(amazonS3.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(initiated);
+        when(amazonS3.uploadPart(any(UploadPartRequest.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            // 버퍼는 다음 part에서 재사용되므로 호출 시점에 바로 복사
+            request.getInputStream().transferTo(uploaded);
+            partCount++;
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag-" + request.getPartNumber());
+            return result;
+        });
+    }
+
+    @Test
+    void part_크기보다_작은_파일은_한_번에_업로드한다() {
+        byte[] image = randomBytes(1024);
+        S3Uploader uploader = uploader(2, 1000);
+
+        String url = uploader.upload(new ByteArrayInputStream(image), "image/png", "a.png", "post-images");
+
+        assertThat(url).startsWith("https://bucket.s3.test/post-images/").endsWith("_a.png");
+        assertThat(uploaded.toByteArray()).isEqualTo(image);
+        verify(amazonS3, never()).initiateMultipartUpload(any(InitiateMultipartUploadRequest.class));
+    }
+
+    @Test
+    void part_크기보다_큰_파일은_multipart로_나누어_업로드한다() {
+        byte[] image = randomBytes(PART_SIZE * 2 + 123);
+        S3Uploader uploader = uploader(2, 1000);
+
+        uploader.upload(new ByteArrayInputStream(image), "image/png", "big.png", "post-images");
+
+        assertThat(partCount).isEqualTo(3);
+        assertThat(uploaded.toByteArray()).isEqualTo(image);
+        verify(amazonS3).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    void part_업로드에_실패하면_multipart_업로드를_중단한다() {
+        when(amazonS3.uploadPart(any(UploadPartRequest.class))).thenThrow(new SdkClientException("connection reset"));
+        S3Uploader uploader = uploader(2, 1000);
+
+        assertThatThrownBy(() -> uploader.upload(
+                new ByteArrayInputStream(randomBytes(PART_SIZE + 1)), "image/png", "big.png", "post-images"))
+                .isInstanceOf(BusinessException.class);
+        verify(amazonS3).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(amazonS3, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    void 동시_업로드_수를_넘으면_대기_후_거절한다() throws Exception {
+        S3Uploader uploader = uploader(1, 50);
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        InputStream slowStream = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                reading.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return -1;
+            }
+        };
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(
+                () -> uploader.upload(slowStream, "image/png", "slow.png", "post-images"));
+        assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> uploader.upload(
+                new ByteArrayInputStream(randomBytes(10)), "image/png", "b.png", "post-images"))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.S3_UPLOAD_BUSY));
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).endsWith("_slow.png");
+    }
+
+    private S3Uploader uploader(int maxConcurrentUploads, long acquireTimeoutMs) {
+        return new S3Uploader(amazonS3, BUCKET, PART_SIZE, maxConcurrentUploads, acquireTimeoutMs, 600_000,
+                new SimpleMeterRegistry());
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
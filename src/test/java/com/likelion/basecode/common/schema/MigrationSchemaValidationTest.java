@@ -0,0 +1,56 @@
+package com.likelion.basecode.common.schema;
+
+import org.flywaydb.core.Flyway;
+import org.hibernate.dialect.DatabaseVersion;
+import org.hibernate.dialect.MySQLDialect;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import java.sql.Types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 마이그레이션(db/migration)으로 만든 스키마가 엔티티 매핑과 맞는지 확인 : 운영과 같이 Flyway 적용 후 ddl-auto=validate로 기동
+// 스키마가 맞지 않으면 컨텍스트 기동(EntityManagerFactory 생성)에서 실패함
+@DataJpaTest(properties = {
+        // 다른 테스트가 엔티티로 만든(create-drop) 스키마와 섞이지 않도록 별도 DB 사용
+        "spring.datasource.url=jdbc:h2:mem:migration-validate;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.dialect=com.likelion.basecode.common.schema.MigrationSchemaValidationTest$ValidationDialect"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MigrationSchemaValidationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Test
+    void 모든_마이그레이션을_적용한_스키마가_엔티티_매핑과_일치한다() {
+        assertThat(flyway.info().applied()).isNotEmpty();
+        assertThat(flyway.info().pending()).isEmpty();
+    }
+
+    // 운영과 같은 MySQL 타입 매핑으로 검증하되, H2가 TEXT 컬럼을 CLOB으로 보고하는 차이만 같은 타입으로 취급
+    public static class ValidationDialect extends MySQLDialect {
+
+        public ValidationDialect() {
+            super(DatabaseVersion.make(8, 0));
+        }
+
+        @Override
+        public boolean equivalentTypes(int typeCode1, int typeCode2) {
+            return isTextReportedAsClob(typeCode1, typeCode2)
+                    || isTextReportedAsClob(typeCode2, typeCode1)
+                    || super.equivalentTypes(typeCode1, typeCode2);
+        }
+
+        private static boolean isTextReportedAsClob(int mappedTypeCode, int reportedTypeCode) {
+            return (mappedTypeCode == Types.VARCHAR || mappedTypeCode == Types.LONGVARCHAR)
+                    && reportedTypeCode == Types.CLOB;
+        }
+    }
+}
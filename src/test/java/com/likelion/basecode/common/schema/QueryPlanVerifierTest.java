@@ -0,0 +1,61 @@
+package com.likelion.basecode.common.schema;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 마이그레이션(db/migration)을 MySQL 호환 모드의 H2에 적용한 뒤 제약 조건과 주요 쿼리의 실행 계획(EXPLAIN) 확인
+class QueryPlanVerifierTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private QueryPlanVerifier queryPlanVerifier;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:migration-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        queryPlanVerifier = new QueryPlanVerifier(jdbcTemplate, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    void 주요_조회_조건은_마이그레이션에서_만든_인덱스를_사용한다() {
+        assertThat(queryPlanVerifier.findQueriesNotUsingIndex()).isEmpty();
+    }
+
+    @Test
+    void 인덱스가_없으면_해당_쿼리를_보고한다() {
+        jdbcTemplate.execute("DROP INDEX idx_post_image_url");
+
+        assertThat(queryPlanVerifier.findQueriesNotUsingIndex())
+                .containsExactly("post by image_url (PostRepository.existsByImageUrl)");
+    }
+
+    @Test
+    void 같은_이름의_태그와_같은_게시글_태그_연결은_저장할_수_없다() {
+        jdbcTemplate.update("INSERT INTO member (member_id, name, age, part) VALUES (1, '홍길동', 20, 'BACKEND')");
+        jdbcTemplate.update("INSERT INTO post (post_id, title, contents, member_id, tag_status) " +
+                "VALUES (1, '제목', '내용', 1, 'READY')");
+        jdbcTemplate.update("INSERT INTO tag (tag_id, name) VALUES (1, '자바')");
+        jdbcTemplate.update("INSERT INTO post_tag (post_tag_id, post_id, tag_id) VALUES (1, 1, 1)");
+
+        assertThatThrownBy(() -> jdbcTemplate.update("INSERT INTO tag (name) VALUES ('자바')"))
+                .isInstanceOf(DuplicateKeyException.class);
+        assertThatThrownBy(() -> jdbcTemplate.update("INSERT INTO post_tag (post_tag_id, post_id, tag_id) VALUES (2, 1, 1)"))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+}
@@ -0,0 +1,172 @@
+package com.likelion.basecode.member.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.basecode.common.error.ErrorCode;
+import com.likelion.basecode.common.exception.BusinessException;
+import com.likelion.basecode.member.api.dto.response.MemberImportFailureDto;
+import com.likelion.basecode.member.api.dto.response.MemberImportResponseDto;
+import com.likelion.basecode.member.api.dto.response.MemberInfoResponseDto;
+import com.likelion.basecode.member.domain.Part;
+import com.likelion.basecode.member.domain.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 배치마다 커밋되는지 확인하기 위해 테스트 트랜잭션 없이 실행
+@DataJpaTest(properties = "member.import.batch-size=2")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({MemberBulkService.class, MemberBulkServiceTest.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberBulkServiceTest {
+
+    @Autowired
+    private MemberBulkService memberBulkService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        for (String table : List.of("post_book_recommendation", "post_tag", "post", "member")) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+
+    @Test
+    void NDJSON은_잘못된_행만_줄_번호와_함께_실패로_보고하고_나머지는_배치로_저장한다() throws IOException {
+        MemberImportResponseDto response = memberBulkService.importMembers(MemberFileFormat.NDJSON, body("""
+                {"name":"홍길동","age":20,"part":"BACKEND"}
+                {"name":"김철수","age":
+                
+                {"name":" ","age":21,"part":"AI"}
+                {"name":"이영희","age":22,"part":"FRONTEND"}
+                {"name":"박민수","age":23,"part":"DESIGN"}
+                {"name":"최지우","age":24}
+                """));
+
+        assertThat(response.importedCount()).isEqualTo(3);
+        assertThat(response.failedCount()).isEqualTo(3);
+        assertThat(response.failures()).extracting(MemberImportFailureDto::line).containsExactly(2L, 4L, 6L);
+        assertThat(memberRepository.findAllMemberInfos()).extracting(MemberInfoResponseDto::name)
+                .containsExactlyInAnyOrder("홍길동", "이영희", "최지우");
+    }
+
+    @Test
+    void age가_없는_행은_0으로_저장하지_않고_실패로_보고한다() throws IOException {
+        MemberImportResponseDto response = memberBulkService.importMembers(MemberFileFormat.NDJSON, body("""
+                {"name":"홍길동","part":"BACKEND"}
+                {"name":"김철수","age":null}
+                {"name":"이영희","age":22}
+                """));
+
+        assertThat(response.importedCount()).isEqualTo(1);
+        assertThat(response.failures()).extracting(MemberImportFailureDto::line).containsExactly(1L, 2L);
+        assertThat(memberRepository.findAllMemberInfos()).extracting(MemberInfoResponseDto::name)
+                .containsExactly("이영희");
+    }
+
+    @Test
+    void 배치_저장이_실패하면_행_단위로_다시_저장해_실패한_행만_보고한다() throws IOException {
+        // DB에서만 거부되는 행을 만들기 위한 임시 제약 조건
+        jdbcTemplate.execute("ALTER TABLE member ADD CONSTRAINT chk_member_age_test CHECK (age < 150)");
+        try {
+            MemberImportResponseDto response = memberBulkService.importMembers(MemberFileFormat.NDJSON, body("""
+                    {"name":"홍길동","age":20}
+                    {"name":"김철수","age":200}
+                    {"name":"이영희","age":22}
+                    """));
+
+            assertThat(response.importedCount()).isEqualTo(2);
+            assertThat(response.failures()).extracting(MemberImportFailureDto::line).containsExactly(2L);
+            assertThat(memberRepository.findAllMemberInfos()).extracting(MemberInfoResponseDto::name)
+                    .containsExactlyInAnyOrder("홍길동", "이영희");
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE member DROP CONSTRAINT chk_member_age_test");
+        }
+    }
+
+    @Test
+    void CSV는_헤더로_열_위치를_찾고_따옴표로_감싼_값을_읽는다() throws IOException {
+        MemberImportResponseDto response = memberBulkService.importMembers(MemberFileFormat.CSV, body("""
+                part,age,name,memo
+                backend,20,"홍, 길동",첫 기수
+                AI,스물,김철수,
+                FRONTEND,22,"이영희 ""YH""",
+                """));
+
+        assertThat(response.importedCount()).isEqualTo(2);
+        assertThat(response.failures()).extracting(MemberImportFailureDto::line).containsExactly(3L);
+        assertThat(memberRepository.findAllMemberInfos()).containsExactlyInAnyOrder(
+                new MemberInfoResponseDto("홍, 길동", 20, Part.BACKEND),
+                new MemberInfoResponseDto("이영희 \"YH\"", 22, Part.FRONTEND));
+    }
+
+    @Test
+    void CSV_헤더에_필요한_열이_없으면_저장하지_않고_실패한다() {
+        assertThatThrownBy(() -> memberBulkService.importMembers(MemberFileFormat.CSV, body("""
+                name,age
+                홍길동,20
+                """)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_MEMBER_FILE_HEADER);
+        assertThat(memberRepository.count()).isZero();
+    }
+
+    @Test
+    void 내보낸_NDJSON과_CSV는_다시_일괄_저장할_수_있다() throws IOException {
+        memberBulkService.importMembers(MemberFileFormat.NDJSON, body("""
+                {"name":"홍길동","age":20,"part":"BACKEND"}
+                {"name":"김, \\"철수\\"","age":21,"part":"AI"}
+                {"name":"이영희","age":22,"part":"FRONTEND"}
+                """));
+        List<MemberInfoResponseDto> members = memberRepository.findAllMemberInfos();
+
+        for (MemberFileFormat format : MemberFileFormat.values()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            memberBulkService.exportMembers(format, out);
+            jdbcTemplate.update("DELETE FROM member");
+
+            MemberImportResponseDto response = memberBulkService.importMembers(format,
+                    new ByteArrayInputStream(out.toByteArray()));
+
+            assertThat(response.failedCount()).isZero();
+            assertThat(memberRepository.findAllMemberInfos()).containsExactlyInAnyOrderElementsOf(members);
+        }
+    }
+
+    private static InputStream body(String contents) {
+        return new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        // 애플리케이션과 같은 설정(알 수 없는 속성 무시)의 ObjectMapper
+        @Bean
+        ObjectMapper objectMapper() {
+            return Jackson2ObjectMapperBuilder.json().build();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.likelion.basecode.post.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.basecode.common.error.ErrorCode;
+import com.likelion.basecode.common.exception.BusinessException;
+import com.likelion.basecode.common.exception.CustomExceptionAdvice;
+import com.likelion.basecode.post.api.dto.response.PostInfoResponseDto;
+import com.likelion.basecode.post.api.dto.response.PostListResponseDto;
+import com.likelion.basecode.post.application.PostService;
+import com.likelion.basecode.post.domain.TagStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 게시글 NDJSON 내보내기 : 페이지를 이어서 읽어 한 줄에 게시글 하나씩 쓰고, 사용자 존재 여부는 첫 페이지에서 한 번만 확인
+class PostControllerTest {
+
+    private final PostService postService = mock(PostService.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new PostController(postService, objectMapper))
+            .setControllerAdvice(new CustomExceptionAdvice())
+            .build();
+
+    @Test
+    void 모든_페이지의_게시글을_한_줄에_하나씩_내보낸다() throws Exception {
+        given(postService.postFindMember(1L, null, PostService.MAX_PAGE_SIZE))
+                .willReturn(PostListResponseDto.from(List.of(post(3L), post(2L)), 2L));
+        given(postService.postFindMemberPage(1L, 2L, PostService.MAX_PAGE_SIZE))
+                .willReturn(PostListResponseDto.from(List.of(post(1L)), null));
+
+        MvcResult started = mockMvc.perform(get("/post/1/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat(body.lines().map(this::postId)).containsExactly(3L, 2L, 1L);
+        // 사용자 존재 여부를 확인하는 조회는 첫 페이지 한 번만
+        verify(postService, times(1)).postFindMember(anyLong(), any(), anyInt());
+    }
+
+    @Test
+    void 존재하지_않는_사용자는_스트리밍을_시작하지_않고_404로_응답한다() throws Exception {
+        given(postService.postFindMember(1L, null, PostService.MAX_PAGE_SIZE)).willThrow(new BusinessException(
+                ErrorCode.MEMBER_NOT_FOUND_EXCEPTION, ErrorCode.MEMBER_NOT_FOUND_EXCEPTION.getMessage() + 1L));
+
+        mockMvc.perform(get("/post/1/export"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isNotFound());
+        verify(postService, never()).postFindMemberPage(anyLong(), anyLong(), anyInt());
+    }
+
+    private Long postId(String line) {
+        try {
+            return objectMapper.readTree(line).get("postId").asLong();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static PostInfoResponseDto post(Long postId) {
+        return PostInfoResponseDto.builder()
+                .postId(postId)
+                .title("제목" + postId)
+                .contents("내용")
+                .writer("홍길동")
+                .tags(List.of("자바"))
+                .tagStatus(TagStatus.READY)
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.likelion.basecode.post.application;
+
+import com.amazonaws.SdkClientException;
+import com.likelion.basecode.common.s3.S3Uploader;
+import com.likelion.basecode.post.domain.PendingImageUpload;
+import com.likelion.basecode.post.domain.repository.PendingImageUploadRepository;
+import com.likelion.basecode.post.domain.repository.PostRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostImageReconcilerTest {
+
+    private PendingImageUploadRepository pendingImageUploadRepository;
+    private PostRepository postRepository;
+    private S3Uploader s3Uploader;
+    private PostImageReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        pendingImageUploadRepository = mock(PendingImageUploadRepository.class);
+        postRepository = mock(PostRepository.class);
+        s3Uploader = mock(S3Uploader.class);
+        when(s3Uploader.urlOf(anyString())).thenAnswer(invocation -> "https://bucket.s3.test/" + invocation.getArgument(0));
+        reconciler = new PostImageReconciler(pendingImageUploadRepository, postRepository, s3Uploader,
+                new SimpleMeterRegistry(), 60_000);
+    }
+
+    @Test
+    void 게시물에_등록되지_않은_이미지만_삭제한다() {
+        PendingImageUpload orphan = new PendingImageUpload("post-images/orphan.png", Instant.EPOCH);
+        PendingImageUpload committed = new PendingImageUpload("post-images/committed.png", Instant.EPOCH);
+        when(pendingImageUploadRepository.findCreatedBefore(any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of(orphan, committed));
+        when(postRepository.existsByImageUrl("https://bucket.s3.test/post-images/committed.png")).thenReturn(true);
+
+        reconciler.reconcile();
+
+        verify(s3Uploader).delete("post-images/orphan.png");
+        verify(s3Uploader, never()).delete("post-images/committed.png");
+        verify(pendingImageUploadRepository).delete(orphan);
+        verify(pendingImageUploadRepository).delete(committed);
+    }
+
+    @Test
+    void S3_삭제에_실패하면_대기_목록에_남겨_다음_주기에_다시_시도한다() {
+        PendingImageUpload orphan = new PendingImageUpload("post-images/orphan.png", Instant.EPOCH);
+        when(pendingImageUploadRepository.findCreatedBefore(any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of(orphan));
+        doThrow(new SdkClientException("timeout")).when(s3Uploader).delete(anyString());
+
+        reconciler.reconcile();
+
+        verify(pendingImageUploadRepository, never()).delete(any(PendingImageUpload.class));
+    }
+}
@@ -0,0 +1,304 @@
+package com.likelion.basecode.post.application;
+
+import com.likelion.basecode.common.client.TagRecommendationClient;
+import com.likelion.basecode.common.error.ErrorCode;
+import com.likelion.basecode.common.exception.BusinessException;
+import com.likelion.basecode.member.domain.Member;
+import com.likelion.basecode.member.domain.Part;
+import com.likelion.basecode.member.domain.repository.MemberRepository;
+import com.likelion.basecode.post.api.dto.request.PostSaveRequestDto;
+import com.likelion.basecode.post.api.dto.request.PostUpdateRequestDto;
+import com.likelion.basecode.post.api.dto.response.PostInfoResponseDto;
+import com.likelion.basecode.post.api.dto.response.PostListResponseDto;
+import com.likelion.basecode.post.domain.Post;
+import com.likelion.basecode.post.domain.TagStatus;
+import com.likelion.basecode.post.domain.repository.PostRepository;
+import com.likelion.basecode.post.domain.repository.PostSummary;
+import com.likelion.basecode.posttag.domain.repository.PostTagRepository;
+import com.likelion.basecode.tag.application.TagDictionary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class PostServiceTest {
+
+    private static final long DEPENDENCY_DELAY_MS = 300;
+    private static final long TAG_WAIT_MS = 1_000;
+
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final TagRecommendationClient tagClient = mock(TagRecommendationClient.class);
+    private final PostTaggingService postTaggingService = mock(PostTaggingService.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final PostImageService postImageService = mock(PostImageService.class);
+    private final TagDictionary tagDictionary = mock(TagDictionary.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PostService postService;
+
+    @BeforeEach
+    void setUp() {
+        executor.setCorePoolSize(4);
+        executor.initialize();
+
+        Member member = Member.builder().name("홍길동").age(20).part(Part.BACKEND).build();
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+        given(transactionTemplate.execute(any())).willAnswer(invocation -> invocation
+                .<TransactionCallback<?>>getArgument(0)
+                .doInTransaction(mock(TransactionStatus.class)));
+
+        postService = new PostService(memberRepository, postRepository, mock(PostTagRepository.class), tagClient,
+                postTaggingService, eventPublisher, postImageService, tagDictionary, transactionTemplate, executor,
+                meterRegistry, TAG_WAIT_MS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void 이미지_업로드와_태그_추천을_동시에_실행하고_한_트랜잭션에서_저장한다() {
+        given(postImageService.upload(any())).willAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(DEPENDENCY_DELAY_MS);
+            return "https://bucket.s3.test/post-images/a.png";
+        });
+        given(tagClient.getRecommendedTags(anyString())).willAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(DEPENDENCY_DELAY_MS);
+            return List.of("자바");
+        });
+
+        long startedAt = System.nanoTime();
+        PostInfoResponseDto response = postService.postSave(request(), imageFile());
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // 순차 실행이라면 두 의존성 지연의 합(600ms) 이상 걸림
+        assertThat(elapsedMs).isLessThan(DEPENDENCY_DELAY_MS * 2);
+        assertThat(response.tagStatus()).isEqualTo(TagStatus.READY);
+        assertThat(response.imageUrl()).isEqualTo("https://bucket.s3.test/post-images/a.png");
+        verify(postTaggingService).registerTagsToPost(any(), anyList());
+        verify(postImageService).confirm("https://bucket.s3.test/post-images/a.png");
+        // 태그가 바로 등록되었으므로 백그라운드 태그 추천 대신 추천 도서 계산만 요청
+        verify(eventPublisher, never()).publishEvent(any(PostTaggingRequestedEvent.class));
+        verify(eventPublisher).publishEvent(any(PostTagsChangedEvent.class));
+        // 단계별 소요 시간 기록 (이미지 업로드와 태그 추천은 각각 지연 시간 이상)
+        for (String stage : List.of("image_upload", "tag_recommendation", "persist", "tag_register")) {
+            assertThat(stageTimer("save", stage).count()).isEqualTo(1);
+        }
+        assertThat(stageTimer("save", "image_upload").totalTime(TimeUnit.MILLISECONDS))
+                .isGreaterThanOrEqualTo(DEPENDENCY_DELAY_MS);
+    }
+
+    @Test
+    void 이미지_업로드에_실패해도_진행_중인_태그_추천은_중단하지_않고_BusinessException을_전달한다() throws Exception {
+        // 같은 본문의 다른 요청이 이 태그 추천 결과를 공유하고 있을 수 있으므로 호출 스레드를 인터럽트하지 않아야 함
+        CountDownLatch tagCallStarted = new CountDownLatch(1);
+        CountDownLatch releaseTagCall = new CountDownLatch(1);
+        CountDownLatch tagCallFinished = new CountDownLatch(1);
+        AtomicBoolean tagCallInterrupted = new AtomicBoolean();
+        given(tagClient.getRecommendedTags(anyString())).willAnswer(invocation -> {
+            tagCallStarted.countDown();
+            try {
+                releaseTagCall.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                tagCallInterrupted.set(true);
+            } finally {
+                tagCallFinished.countDown();
+            }
+            return List.of();
+        });
+        given(postImageService.upload(any())).willAnswer(invocation -> {
+            tagCallStarted.await(1, TimeUnit.SECONDS);
+            throw new BusinessException(ErrorCode.S3_UPLOAD_BUSY, ErrorCode.S3_UPLOAD_BUSY.getMessage());
+        });
+
+        assertThatThrownBy(() -> postService.postSave(request(), imageFile()))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.S3_UPLOAD_BUSY);
+
+        releaseTagCall.countDown();
+        assertThat(tagCallFinished.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(tagCallInterrupted).isFalse();
+        verify(postRepository, never()).save(any());
+    }
+
+    @Test
+    void 태그_추천이_대기_시간을_넘기면_태그_없이_저장하고_백그라운드_추천을_요청한다() {
+        given(tagClient.getRecommendedTags(anyString())).willAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(TAG_WAIT_MS * 3);
+            return List.of("자바");
+        });
+
+        long startedAt = System.nanoTime();
+        PostInfoResponseDto response = postService.postSave(request(), null);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertThat(elapsedMs).isLessThan(TAG_WAIT_MS * 2);
+        assertThat(response.tagStatus()).isEqualTo(TagStatus.PENDING);
+        verify(eventPublisher).publishEvent(any(PostTaggingRequestedEvent.class));
+        verify(postTaggingService, never()).registerTagsToPost(any(), anyList());
+    }
+
+    @Test
+    void 삭제된_태그_id로_저장에_실패하면_태그_사전을_다시_확인하고_한_번_더_저장한다() {
+        given(tagClient.getRecommendedTags(anyString())).willReturn(List.of("자바"));
+        given(transactionTemplate.execute(any()))
+                .willThrow(new DataIntegrityViolationException("FK_POST_TAG_TAG"))
+                .willAnswer(invocation -> invocation
+                        .<TransactionCallback<?>>getArgument(0)
+                        .doInTransaction(mock(TransactionStatus.class)));
+
+        PostInfoResponseDto response = postService.postSave(request(), null);
+
+        assertThat(response.tagStatus()).isEqualTo(TagStatus.READY);
+        verify(tagDictionary).refreshIfChanged();
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+
+    @Test
+    void 본문이_바뀌지_않은_수정은_태그를_다시_추천받거나_교체하지_않는다() {
+        Post post = storedPost("자바 스트림 정리");
+
+        PostInfoResponseDto response = postService.postUpdate(1L, new PostUpdateRequestDto("새 제목", "자바 스트림 정리"), null);
+
+        assertThat(response.title()).isEqualTo("새 제목");
+        assertThat(post.getTagStatus()).isEqualTo(TagStatus.PENDING);
+        verify(tagClient, never()).getRecommendedTags(anyString());
+        verify(postTaggingService, never()).replaceTags(any(), anyList());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void 본문이_바뀐_수정은_추천받은_태그와_기존_태그의_차이만_반영한다() {
+        Post post = storedPost("자바 스트림 정리");
+        given(tagClient.getRecommendedTags("스프링 트랜잭션 정리")).willReturn(List.of("스프링", "트랜잭션"));
+
+        postService.postUpdate(1L, new PostUpdateRequestDto("제목", "스프링 트랜잭션 정리"), null);
+
+        assertThat(post.getTagStatus()).isEqualTo(TagStatus.READY);
+        verify(postTaggingService).replaceTags(eq(post), eq(List.of("스프링", "트랜잭션")));
+        verify(eventPublisher).publishEvent(any(PostTagsChangedEvent.class));
+    }
+
+    @Test
+    void 태그_추천_API를_사용할_수_없으면_기존_태그를_유지하고_새_본문으로_백그라운드_추천을_요청한다() {
+        Post post = storedPost("자바 스트림 정리");
+        given(tagClient.getRecommendedTags("스프링 트랜잭션 정리")).willThrow(new BusinessException(
+                ErrorCode.TAG_API_BUSY, ErrorCode.TAG_API_BUSY.getMessage()));
+
+        postService.postUpdate(1L, new PostUpdateRequestDto("제목", "스프링 트랜잭션 정리"), null);
+
+        assertThat(post.getTagStatus()).isEqualTo(TagStatus.PENDING);
+        verify(postTaggingService, never()).replaceTags(any(), anyList());
+        verify(eventPublisher).publishEvent(new PostTaggingRequestedEvent(1L, "스프링 트랜잭션 정리"));
+        verify(eventPublisher, never()).publishEvent(any(PostTagsChangedEvent.class));
+    }
+
+    @Test
+    void 수정_시_태그_추천은_대기_시간까지만_기다린다() {
+        Post post = storedPost("자바 스트림 정리");
+        given(tagClient.getRecommendedTags("스프링 트랜잭션 정리")).willAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(TAG_WAIT_MS * 3);
+            return List.of("스프링");
+        });
+
+        long startedAt = System.nanoTime();
+        postService.postUpdate(1L, new PostUpdateRequestDto("제목", "스프링 트랜잭션 정리"), null);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertThat(elapsedMs).isLessThan(TAG_WAIT_MS * 2);
+        assertThat(post.getTagStatus()).isEqualTo(TagStatus.PENDING);
+        verify(eventPublisher).publishEvent(any(PostTaggingRequestedEvent.class));
+    }
+
+    @Test
+    void 게시글_목록은_한_건_더_조회해_다음_페이지_여부와_cursor를_계산한다() {
+        given(postRepository.findPostIdsByMember(1L, Long.MAX_VALUE, PageRequest.of(0, 3)))
+                .willReturn(List.of(9L, 8L, 7L, 6L));
+        given(postRepository.findSummariesByPostIdIn(List.of(9L, 8L, 7L)))
+                .willReturn(List.of(summary(9L), summary(8L), summary(7L)));
+
+        PostListResponseDto page = postService.postFindMember(1L, null, 3);
+
+        assertThat(page.posts()).extracting(PostInfoResponseDto::postId).containsExactly(9L, 8L, 7L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursor()).isEqualTo(7L);
+    }
+
+    @Test
+    void 페이지_크기만큼만_남았다면_마지막_페이지로_응답한다() {
+        given(postRepository.findPostIdsByMember(1L, 7L, PageRequest.of(0, 3))).willReturn(List.of(6L, 5L, 4L));
+        given(postRepository.findSummariesByPostIdIn(List.of(6L, 5L, 4L)))
+                .willReturn(List.of(summary(6L), summary(5L), summary(4L)));
+
+        PostListResponseDto page = postService.postFindMember(1L, 7L, 3);
+
+        assertThat(page.posts()).hasSize(3);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void 페이지_크기는_최대값으로_제한하고_빈_페이지는_게시글을_조회하지_않는다() {
+        PostListResponseDto page = postService.postFindMember(1L, null, 1_000);
+
+        verify(postRepository).findPostIdsByMember(1L, Long.MAX_VALUE, PageRequest.of(0, PostService.MAX_PAGE_SIZE + 1));
+        verify(postRepository, never()).findSummariesByPostIdIn(anyList());
+        assertThat(page.posts()).isEmpty();
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    private static PostSummary summary(Long postId) {
+        return new PostSummary(postId, "제목" + postId, "내용", "홍길동", TagStatus.READY, null);
+    }
+
+    private Timer stageTimer(String operation, String stage) {
+        return meterRegistry.get("post.stage").tag("operation", operation).tag("stage", stage).timer();
+    }
+
+    // 저장된 게시물 (본문 조회와 태그 fetch join 조회 모두 같은 게시물 반환)
+    private Post storedPost(String contents) {
+        Post post = Post.builder().title("제목").contents(contents).member(memberRepository.findById(1L).orElseThrow()).build();
+        given(postRepository.findContentsById(1L)).willReturn(Optional.of(contents));
+        given(postRepository.findByIdWithTags(1L)).willReturn(Optional.of(post));
+        return post;
+    }
+
+    private static PostSaveRequestDto request() {
+        return new PostSaveRequestDto(1L, "자바 공부", "자바 스트림 정리", null);
+    }
+
+    private static MockMultipartFile imageFile() {
+        return new MockMultipartFile("imageFile", "a.png", "image/png", new byte[]{1, 2, 3});
+    }
+}
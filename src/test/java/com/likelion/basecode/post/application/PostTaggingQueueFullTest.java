@@ -0,0 +1,100 @@
+package com.likelion.basecode.post.application;
+
+import com.likelion.basecode.common.client.TagRecommendationClient;
+import com.likelion.basecode.member.domain.Member;
+import com.likelion.basecode.member.domain.Part;
+import com.likelion.basecode.member.domain.repository.MemberRepository;
+import com.likelion.basecode.post.domain.Post;
+import com.likelion.basecode.post.domain.TagStatus;
+import com.likelion.basecode.post.domain.repository.PostRepository;
+import com.likelion.basecode.tag.application.TagDictionary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// 태그 추천 작업 큐가 가득 차 게시물 저장 커밋 직후(AFTER_COMMIT) 실패 처리한 경우에도 FAILED 상태가 DB에 저장되는지 확인
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PostTaggingWorker.class, PostTaggingService.class, TagDictionary.class, PostTaggingQueueFullTest.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PostTaggingQueueFullTest {
+
+    @Autowired
+    private PostTaggingWorker postTaggingWorker;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        for (String table : List.of("post_book_recommendation", "post_tag", "post", "tag", "member")) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+
+    @Test
+    void 작업_큐가_가득_차면_게시물_저장_커밋_후_FAILED_상태를_저장한다() {
+        Long postId = new TransactionTemplate(transactionManager).execute(status -> {
+            Member member = memberRepository.save(Member.builder().name("홍길동").age(20).part(Part.BACKEND).build());
+            Post post = postRepository.save(Post.builder().title("제목").contents("자바 공부").member(member).build());
+            eventPublisher.publishEvent(new PostTaggingRequestedEvent(post.getPostId(), post.getContents()));
+            return post.getPostId();
+        });
+
+        assertThat(postRepository.findById(postId)).hasValueSatisfying(post ->
+                assertThat(post.getTagStatus()).isEqualTo(TagStatus.FAILED));
+        assertThat(postTaggingWorker.getDeadLetters())
+                .extracting(PostTaggingWorker.DeadLetter::postId)
+                .containsExactly(postId);
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        TagRecommendationClient tagRecommendationClient() {
+            return mock(TagRecommendationClient.class);
+        }
+
+        // 항상 거절하는(가득 찬) 작업 큐
+        @Bean
+        Executor postTaggingExecutor() {
+            return task -> {
+                throw new RejectedExecutionException();
+            };
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.likelion.basecode.post.application;
+
+import com.likelion.basecode.member.domain.Member;
+import com.likelion.basecode.member.domain.Part;
+import com.likelion.basecode.post.domain.Post;
+import com.likelion.basecode.post.domain.TagStatus;
+import com.likelion.basecode.post.domain.repository.PostRepository;
+import com.likelion.basecode.posttag.domain.PostTag;
+import com.likelion.basecode.tag.application.TagDictionary;
+import com.likelion.basecode.tag.domain.Tag;
+import com.likelion.basecode.tag.domain.TagDictionaryVersion;
+import com.likelion.basecode.tag.domain.repository.TagDictionaryVersionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PostTaggingService.class, TagDictionary.class, PostTaggingServiceTest.MetricsConfig.class})
+class PostTaggingServiceTest {
+
+    private static final List<String> TAG_NAMES = IntStream.rangeClosed(1, 10)
+            .mapToObj(i -> "태그" + i)
+            .toList();
+
+    @Autowired
+    private PostTaggingService postTaggingService;
+
+    @Autowired
+    private TagDictionary tagDictionary;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TagDictionaryVersionRepository versionRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        Member member = em.persist(Member.builder().name("홍길동").age(20).part(Part.BACKEND).build());
+        postId = em.persist(Post.builder().title("제목").contents("내용입니다").member(member).build()).getPostId();
+        em.flush();
+        em.clear();
+        // 다른 테스트에서 적재한(롤백된) 태그가 사전에 남지 않도록 초기화
+        tagDictionary.reload();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void 새_태그_10개를_등록해도_태그_수에_비례하지_않는_statement만_실행한다() {
+        Post post = em.find(Post.class, postId);
+        statistics.clear();
+
+        postTaggingService.registerTagsToPost(post, TAG_NAMES);
+        em.flush();
+
+        // 태그 조회 2 + INSERT IGNORE 1 + 시퀀스 조회(최초 최대 2) + PostTag 배치 INSERT 1 (사전 버전은 올리지 않음)
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(TAG_NAMES.size());
+        assertThat(tagCount()).isEqualTo(TAG_NAMES.size());
+    }
+
+    @Test
+    void 새_태그를_등록해도_태그_사전_버전은_올리지_않는다() {
+        Long version = versionRepository.findVersion(TagDictionaryVersion.SINGLETON_ID).orElseThrow();
+        Post post = em.find(Post.class, postId);
+
+        postTaggingService.registerTagsToPost(post, List.of("태그1"));
+        em.flush();
+
+        assertThat(versionRepository.findVersion(TagDictionaryVersion.SINGLETON_ID)).contains(version);
+    }
+
+    @Test
+    void 이미_존재하는_태그는_다시_저장하지_않고_중복_태그는_한_번만_연결한다() {
+        TAG_NAMES.forEach(name -> em.persist(new Tag(name)));
+        em.flush();
+        Post post = em.find(Post.class, postId);
+        statistics.clear();
+
+        postTaggingService.registerTagsToPost(post, List.of("태그1", "태그2", "태그1"));
+        em.flush();
+
+        // 태그 조회 1 + 시퀀스 조회(최초 최대 2) + PostTag 배치 INSERT 1
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+        assertThat(post.getPostTags()).hasSize(2);
+        assertThat(tagCount()).isEqualTo(TAG_NAMES.size());
+    }
+
+    @Test
+    void 태그_사전에_있는_태그는_DB_조회_없이_연결한다() {
+        TAG_NAMES.forEach(name -> em.persist(new Tag(name)));
+        em.flush();
+        tagDictionary.reload();
+        Post post = em.find(Post.class, postId);
+        statistics.clear();
+
+        postTaggingService.registerTagsToPost(post, TAG_NAMES);
+        em.flush();
+
+        // 시퀀스 조회(최초 최대 2) + PostTag 배치 INSERT 1 (태그 조회 없음)
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(post.getPostTags()).hasSize(TAG_NAMES.size());
+    }
+
+    @Test
+    void 태그를_교체하면_빠진_태그만_삭제하고_새_태그만_추가한다() {
+        TAG_NAMES.forEach(name -> em.persist(new Tag(name)));
+        em.flush();
+        tagDictionary.reload();
+        postTaggingService.registerTagsToPost(em.find(Post.class, postId), List.of("태그1", "태그2", "태그3"));
+        em.flush();
+        em.clear();
+        Post post = postRepository.findByIdWithTags(postId).orElseThrow();
+        statistics.clear();
+
+        postTaggingService.replaceTags(post, List.of("태그2", "태그3", "태그4"));
+        em.flush();
+
+        // 유지되는 태그2, 태그3의 PostTag는 건드리지 않음
+        assertThat(statistics.getEntityDeleteCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(post.getPostTags()).extracting(postTag -> postTag.getTag().getName())
+                .containsExactlyInAnyOrder("태그2", "태그3", "태그4");
+    }
+
+    @Test
+    void 같은_태그로_교체하면_아무_statement도_실행하지_않는다() {
+        TAG_NAMES.forEach(name -> em.persist(new Tag(name)));
+        em.flush();
+        tagDictionary.reload();
+        postTaggingService.registerTagsToPost(em.find(Post.class, postId), List.of("태그1", "태그2"));
+        em.flush();
+        em.clear();
+        Post post = postRepository.findByIdWithTags(postId).orElseThrow();
+        List<PostTag> before = List.copyOf(post.getPostTags());
+        statistics.clear();
+
+        postTaggingService.replaceTags(post, List.of("태그2", "태그1"));
+        em.flush();
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(post.getPostTags()).containsExactlyInAnyOrderElementsOf(before);
+    }
+
+    @Test
+    void 추천에_사용한_본문이_그_사이_수정되었다면_백그라운드_태그를_등록하지_않는다() {
+        postTaggingService.completeTagging(postId, "수정 전 본문", List.of("태그1"));
+        em.flush();
+        em.clear();
+
+        Post post = postRepository.findByIdWithTags(postId).orElseThrow();
+        assertThat(post.getPostTags()).isEmpty();
+        assertThat(post.getTagStatus()).isEqualTo(TagStatus.PENDING);
+
+        postTaggingService.completeTagging(postId, "내용입니다", List.of("태그1"));
+        em.flush();
+        em.clear();
+
+        assertThat(postRepository.findByIdWithTags(postId).orElseThrow().getPostTags())
+                .extracting(postTag -> postTag.getTag().getName())
+                .containsExactly("태그1");
+    }
+
+    private long tagCount() {
+        return em.getEntityManager()
+                .createQuery("SELECT COUNT(t) FROM Tag t", Long.class)
+                .getSingleResult();
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
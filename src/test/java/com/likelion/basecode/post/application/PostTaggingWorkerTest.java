@@ -0,0 +1,110 @@
+package com.likelion.basecode.post.application;
+
+import com.likelion.basecode.common.client.TagRecommendationClient;
+import com.likelion.basecode.common.error.ErrorCode;
+import com.likelion.basecode.common.exception.BusinessException;
+import com.likelion.basecode.tag.application.TagDictionary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class PostTaggingWorkerTest {
+
+    private final TagRecommendationClient tagClient = mock(TagRecommendationClient.class);
+    private final PostTaggingService postTaggingService = mock(PostTaggingService.class);
+    private final TagDictionary tagDictionary = mock(TagDictionary.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 일시적인_실패는_재시도한_뒤_태그를_등록한다() {
+        given(tagClient.getRecommendedTags(anyString()))
+                .willThrow(new ResourceAccessException("timeout"))
+                .willReturn(List.of("자바"));
+        PostTaggingWorker worker = worker(Runnable::run);
+
+        worker.onTaggingRequested(new PostTaggingRequestedEvent(1L, "자바 공부"));
+
+        verify(tagClient, times(2)).getRecommendedTags("자바 공부");
+        verify(postTaggingService).completeTagging(1L, "자바 공부", List.of("자바"));
+        assertThat(worker.getDeadLetters()).isEmpty();
+    }
+
+    @Test
+    void 재시도를_모두_실패하면_dead_letter에_기록하고_FAILED로_변경한다() {
+        given(tagClient.getRecommendedTags(anyString())).willThrow(new ResourceAccessException("timeout"));
+        PostTaggingWorker worker = worker(Runnable::run);
+
+        worker.onTaggingRequested(new PostTaggingRequestedEvent(1L, "자바 공부"));
+
+        verify(tagClient, times(3)).getRecommendedTags("자바 공부");
+        verify(postTaggingService).failTagging(1L);
+        assertThat(worker.getDeadLetters()).extracting(PostTaggingWorker.DeadLetter::postId).containsExactly(1L);
+    }
+
+    @Test
+    void 태그_추천_API의_서킷이_열려_있으면_dead_letter_대신_open_유지_시간_뒤에_다시_큐에_등록한다() {
+        given(tagClient.getRecommendedTags(anyString()))
+                .willThrow(new BusinessException(ErrorCode.TAG_API_UNAVAILABLE, ErrorCode.TAG_API_UNAVAILABLE.getMessage()))
+                .willReturn(List.of("자바"));
+        List<Runnable> queued = new ArrayList<>();
+        PostTaggingWorker worker = worker(queued::add);
+
+        worker.onTaggingRequested(new PostTaggingRequestedEvent(1L, "자바 공부"));
+        queued.remove(0).run();
+
+        // 작업 스레드에서 기다리지 않고 다음 시도를 다시 큐에 등록 (테스트에서는 open 유지 시간 0)
+        verify(tagClient, times(1)).getRecommendedTags("자바 공부");
+        assertThat(queued).hasSize(1);
+        assertThat(worker.getDeadLetters()).isEmpty();
+
+        queued.remove(0).run();
+
+        verify(postTaggingService).completeTagging(1L, "자바 공부", List.of("자바"));
+        verify(postTaggingService, never()).failTagging(anyLong());
+    }
+
+    @Test
+    void 동시_호출_수_초과는_백오프_후_재시도한다() {
+        given(tagClient.getRecommendedTags(anyString()))
+                .willThrow(new BusinessException(ErrorCode.TAG_API_BUSY, ErrorCode.TAG_API_BUSY.getMessage()))
+                .willReturn(List.of("자바"));
+        PostTaggingWorker worker = worker(Runnable::run);
+
+        worker.onTaggingRequested(new PostTaggingRequestedEvent(1L, "자바 공부"));
+
+        verify(tagClient, times(2)).getRecommendedTags("자바 공부");
+        verify(postTaggingService).completeTagging(1L, "자바 공부", List.of("자바"));
+        assertThat(worker.getDeadLetters()).isEmpty();
+    }
+
+    @Test
+    void 작업_큐가_가득_차면_호출하지_않고_바로_실패_처리한다() {
+        PostTaggingWorker worker = worker(task -> {
+            throw new RejectedExecutionException();
+        });
+
+        worker.onTaggingRequested(new PostTaggingRequestedEvent(1L, "자바 공부"));
+
+        verify(tagClient, never()).getRecommendedTags(anyString());
+        verify(postTaggingService).failTagging(1L);
+        assertThat(worker.getDeadLetters()).hasSize(1);
+    }
+
+    private PostTaggingWorker worker(Executor executor) {
+        return new PostTaggingWorker(tagClient, postTaggingService, tagDictionary, executor, meterRegistry, 3, 0, 10, 0);
+    }
+}
@@ -0,0 +1,69 @@
+package com.likelion.basecode.post.domain.repository;
+
+import com.likelion.basecode.member.domain.Member;
+import com.likelion.basecode.member.domain.Part;
+import com.likelion.basecode.post.domain.Post;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 작성자별 게시글 keyset 페이지네이션 : cursor보다 작은 post_id만 최신순으로, 다른 작성자의 게시글은 제외
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PostRepositoryTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Long memberId;
+    // 작성 순서대로의 게시글 id (오름차순)
+    private List<Long> postIds;
+
+    @BeforeEach
+    void setUp() {
+        Member member = em.persist(Member.builder().name("홍길동").age(20).part(Part.BACKEND).build());
+        Member other = em.persist(Member.builder().name("김철수").age(21).part(Part.FRONTEND).build());
+        memberId = member.getMemberId();
+        postIds = IntStream.rangeClosed(1, 5)
+                .mapToObj(i -> {
+                    // 다른 작성자의 게시글이 사이사이에 끼어 있어도 결과에 포함되지 않아야 함
+                    em.persist(Post.builder().title("다른 글" + i).contents("내용").member(other).build());
+                    return em.persist(Post.builder().title("글" + i).contents("내용").member(member).build()).getPostId();
+                })
+                .toList();
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void 첫_페이지는_최신_게시글부터_요청한_개수만큼_조회한다() {
+        List<Long> page = postRepository.findPostIdsByMember(memberId, Long.MAX_VALUE, PageRequest.of(0, 3));
+
+        assertThat(page).containsExactly(postIds.get(4), postIds.get(3), postIds.get(2));
+    }
+
+    @Test
+    void cursor와_같은_게시글은_제외하고_그보다_오래된_게시글부터_조회한다() {
+        List<Long> page = postRepository.findPostIdsByMember(memberId, postIds.get(2), PageRequest.of(0, 3));
+
+        assertThat(page).containsExactly(postIds.get(1), postIds.get(0));
+    }
+
+    @Test
+    void 마지막_게시글을_cursor로_조회하면_빈_목록을_반환한다() {
+        assertThat(postRepository.findPostIdsByMember(memberId, postIds.get(0), PageRequest.of(0, 3))).isEmpty();
+    }
+}